@@ -0,0 +1,42 @@
+/**
+ * Class: Bits
+ * Small helpers for fixed-size bitsets stored in long arrays, where
+ * bit i lives in word i / 64. Used for cell sets indexed by cell id.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+final class Bits {
+
+    private Bits() {
+    }
+
+    // Number of longs needed to hold the given number of bits
+    static int words(int numBits) {
+        return (numBits + 63) >>> 6;
+    }
+
+    static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -1,30 +1,24 @@
 package clueGame;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
-import javax.swing.JOptionPane;
-import javax.swing.JPanel;
-
-import java.awt.Color;
-import java.awt.Component;
-import java.awt.Frame;
-import java.awt.Graphics;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.io.*;
 
 
 /**
  * Board represents the game board in the Clue game.
- * It is implemented as a singleton to ensure only one board exists.
+ * The GUI shares one instance through getInstance(); simulations create their own.
  * 
  * This class supports initialization, lookup, and basic board info queries.
+ * Turn sequencing and rules run in the board's GameEngine, which reports
+ * to listeners instead of touching the user interface.
  * 
  * Authors: Shaurya Saxena, Logan Matthews
  * Date: July 21, 2025
  */
 
-public class Board extends JPanel {
+public class Board {
 	private static final char CENTER_MARKER = '*';
 	private static final char DOOR_RIGHT = '>';
 	private static final char DOOR_LEFT = '<';
@@ -32,51 +26,98 @@ public class Board extends JPanel {
 	private static final char DOOR_UP = '^';
 	private static final String CSV_DELIMITER = ",";
 	private static final String COMMENT_PREFIX = "//";
+	private static final int DEFAULT_TARGET_CACHE_SIZE = 256;
+	private static final long CELL_KEY_SEED = 0x9E3779B97F4A7C15L;
+	// Seats are bits in a long
+	private static final int MAX_PLAYERS = 64;
 	private BoardCell[][] grid;
 	private int numRows;
 	private int numColumns;
 	private String layoutConfigFile;
 	private String setupConfigFile;
+	// When set, the setup file's human seat is played by a ComputerPlayer too
+	private boolean computerOnly = false;
+	// All of this game's randomness comes from here; each player gets a split of it
+	private SplittableRandom random = new SplittableRandom();
 	private Map<Character, Room> roomMap = new HashMap<>();
-	private Set<BoardCell> targets = new HashSet<>();
-	private Set<BoardCell> visited;
+	private Set<BoardCell> targets = new LinkedHashSet<>();
+	// Cells highlightTargets has highlighted, so the next call only clears those
+	private List<BoardCell> highlightedCells = new ArrayList<>();
+	// Adjacency in compressed-sparse-row form, built once per layout load.
+	// Cell ids are row * numColumns + col; the neighbors of cell i are
+	// adjNeighbors[adjOffsets[i]] .. adjNeighbors[adjOffsets[i + 1] - 1].
+	private BoardCell[] cellsById;
+	private int[] adjOffsets;
+	private int[] adjNeighbors;
+	private TargetEngine targetEngine;
+	private BoundedTargetEngine boundedTargetEngine;
+	// Steps from every cell to every room, for computer players heading somewhere
+	private DistanceFields distanceFields;
+	private MovementRules movementRules = MovementRules.standard();
+	// Occupancy per cell id: players standing on each cell, and a bit set when
+	// the cell holds a player or was marked occupied through BoardCell.
+	// Updated on every move; the version changes whenever occupancy does.
+	private int[] playerCounts;
+	private long[] occupied;
+	private long occupancyVersion = 0;
+	// Zobrist fingerprint of the occupied bits: equal occupancy gives an equal key
+	private long[] cellKeys;
+	private long occupancyKey = 0;
+	// Changes whenever a layout is loaded, so views can tell when to redraw the board itself
+	private long layoutVersion = 0;
+	private volatile TargetCache targetCache = new TargetCache(DEFAULT_TARGET_CACHE_SIZE);
+	// Scratch for the stateful calcTargets API, and one per thread for findTargets
+	private TargetScratch boardScratch;
+	private final ThreadLocal<TargetScratch> localScratch = ThreadLocal.withInitial(() -> new TargetScratch(0));
+	// Doorway cells grouped by the initial of the room they lead into
+	private Map<Character, List<BoardCell>> roomDoors = new HashMap<>();
+	// Lookup indexes so suggestions never have to scan rooms or players
+	private Map<Card, Room> roomsByCard = new HashMap<>();
+	private Map<String, Player> playersByName = new HashMap<>();
+	// Bit p of cardHolders[id] is set while the player in seat p holds card id
+	private long[] cardHolders = new long[CardRegistry.MAX_CARDS];
 	private List<Player> players = new ArrayList<>();
 	private List<Card> deck = new ArrayList<>();
+	// Every card in the game, including the solution; deck only holds the dealt ones
+	private CardRegistry cardRegistry = new CardRegistry();
 	private Solution theAnswer;
-	private int currentPlayerIndex = -1;
-	private boolean humanMustFinish = false;
+	private final GameEngine engine = new GameEngine(this);
 	private GameControlPanel controlPanel;
 	private BoardGUI boardGUI;
-	private boolean gameOver = false;
+	private ComputerTurnRunner turnRunner;
 
 	
 	
 	/*
-     * variable and methods used for singleton pattern
+     * Shared instance used by the GUI. Each Board owns its own grid,
+     * players, deck and solution, so simulations can create as many
+     * independent games as they need with the public constructor.
      */
-     private static Board theInstance = new Board();
-     // constructor is private to ensure only one can be created
-     private Board() {
-            super();
+     private static final Board theInstance = new Board();
+
+     public Board() {
      }
-     // this method returns the only Board
+
+     // this method returns the Board shared by the GUI
      public static Board getInstance() {
             return theInstance;
      }
      /*
-      * initialize the board (since we are using singleton pattern)
+      * initialize the board from the configured files, discarding any previous game
       */
      public void initialize() {
     	 try {
     		 
-    		 players.clear();
+    		 clearPlayers();
     		 deck.clear();
     		 theAnswer = null;
+    		 engine.reset();
     		    
     		 loadSetupConfig();
              loadLayoutConfig();
              dealSolution();
              dealRemainingCardsToPlayers();
+             engine.publishSnapshot();
       
 //             dealCardsToPlayers();
          } catch (BadConfigFormatException e) {
@@ -90,6 +131,7 @@ public class Board extends JPanel {
      public void loadLayoutConfig() throws BadConfigFormatException {
     	    // Clear existing data for singleton pattern
     	    grid = null;
+    	    highlightedCells.clear();
     	    numRows = 0;
     	    numColumns = 0;
     	    
@@ -110,6 +152,10 @@ public class Board extends JPanel {
     	    
     	    linkCellsToRooms();
     	    assignSecretPassagesToCenters();
+    	    indexRoomDoors();
+    	    buildAdjacency();
+    	    rebuildOccupancy();
+    	    layoutVersion++;
     	}
      
      // Method to set all the cells to each room
@@ -147,6 +193,165 @@ public class Board extends JPanel {
 			 }
 		 }
 	 }
+
+	 // One pass over the grid so room centers never have to scan for their doors
+	 private void indexRoomDoors() {
+		 roomDoors.clear();
+		 for (int row = 0; row < numRows; row++) {
+			 for (int col = 0; col < numColumns; col++) {
+				 BoardCell cell = grid[row][col];
+				 if (!cell.isDoorway()) {
+					 continue;
+				 }
+				 BoardCell roomCell = getDoorRoomCell(cell);
+				 if (roomCell != null) {
+					 roomDoors.computeIfAbsent(roomCell.getInitial(), k -> new ArrayList<>()).add(cell);
+				 }
+			 }
+		 }
+	 }
+
+	 // Computes every cell's adjacency once and packs it into the CSR arrays,
+	 // so neither getAdjList nor the target search allocate per call
+	 private void buildAdjacency() {
+		 int numCells = numRows * numColumns;
+		 cellsById = new BoardCell[numCells];
+		 adjOffsets = new int[numCells + 1];
+		 playerCounts = new int[numCells];
+		 occupied = new long[Bits.words(numCells)];
+		 boardScratch = new TargetScratch(numCells);
+		 cellKeys = new long[numCells];
+		 Random keyRandom = new Random(CELL_KEY_SEED);
+		 for (int id = 0; id < numCells; id++) {
+			 cellKeys[id] = keyRandom.nextLong();
+		 }
+		 List<BoardCell> allNeighbors = new ArrayList<>();
+
+		 for (int row = 0; row < numRows; row++) {
+			 for (int col = 0; col < numColumns; col++) {
+				 BoardCell cell = grid[row][col];
+				 int id = cellId(row, col);
+				 cellsById[id] = cell;
+				 cell.setBoard(this);
+				 adjOffsets[id] = allNeighbors.size();
+
+				 Set<BoardCell> adj = new LinkedHashSet<>();
+				 computeAdjacency(cell, adj);
+				 for (BoardCell adjCell : adj) {
+					 cell.addAdj(adjCell);
+					 allNeighbors.add(adjCell);
+				 }
+			 }
+		 }
+		 adjOffsets[numCells] = allNeighbors.size();
+
+		 adjNeighbors = new int[allNeighbors.size()];
+		 for (int i = 0; i < adjNeighbors.length; i++) {
+			 BoardCell adjCell = allNeighbors.get(i);
+			 adjNeighbors[i] = cellId(adjCell.getRow(), adjCell.getColumn());
+		 }
+
+		 targetEngine = new TargetEngine(cellsById, adjOffsets, adjNeighbors, occupied);
+		 boundedTargetEngine = new BoundedTargetEngine(cellsById, adjOffsets, adjNeighbors, numColumns, occupied);
+		 distanceFields = new DistanceFields(cellsById, adjOffsets, adjNeighbors, numColumns, roomMap);
+	 }
+
+	 private int cellId(int row, int col) {
+		 return row * numColumns + col;
+	 }
+
+	 // Recounts every player's cell, e.g. after a new layout or player list is loaded
+	 private void rebuildOccupancy() {
+		 if (playerCounts == null) {
+			 return;
+		 }
+		 Arrays.fill(playerCounts, 0);
+		 Arrays.fill(occupied, 0L);
+		 occupancyKey = 0;
+		 if (targetCache != null) {
+			 targetCache.clear();
+		 }
+		 for (Player p : players) {
+			 if (isOnBoard(p.getRow(), p.getColumn())) {
+				 playerCounts[cellId(p.getRow(), p.getColumn())]++;
+			 }
+		 }
+		 for (int id = 0; id < cellsById.length; id++) {
+			 updateOccupiedBit(id);
+		 }
+		 occupancyVersion++;
+	 }
+
+	 // Called by Player whenever a player on this board changes location
+	 void playerMoved(int fromRow, int fromCol, int toRow, int toCol) {
+		 if (playerCounts == null) {
+			 return;
+		 }
+		 if (isOnBoard(fromRow, fromCol)) {
+			 int fromId = cellId(fromRow, fromCol);
+			 playerCounts[fromId]--;
+			 updateOccupiedBit(fromId);
+		 }
+		 if (isOnBoard(toRow, toCol)) {
+			 int toId = cellId(toRow, toCol);
+			 playerCounts[toId]++;
+			 updateOccupiedBit(toId);
+		 }
+		 occupancyVersion++;
+	 }
+
+	 // Called by BoardCell when its occupied flag is set directly
+	 void cellOccupancyChanged(BoardCell cell) {
+		 if (playerCounts == null || cellsById[getCellId(cell)] != cell) {
+			 return;
+		 }
+		 updateOccupiedBit(getCellId(cell));
+		 occupancyVersion++;
+	 }
+
+	 private void updateOccupiedBit(int id) {
+		 boolean nowOccupied = playerCounts[id] > 0 || cellsById[id].isOccupied();
+		 if (nowOccupied != Bits.get(occupied, id)) {
+			 occupancyKey ^= cellKeys[id];
+		 }
+		 if (nowOccupied) {
+			 Bits.set(occupied, id);
+		 } else {
+			 Bits.clear(occupied, id);
+		 }
+	 }
+
+	 private boolean isOnBoard(int row, int col) {
+		 return row >= 0 && row < numRows && col >= 0 && col < numColumns;
+	 }
+
+	 // True when a player stands on the cell or it has been marked occupied
+	 public boolean isCellOccupied(int row, int col) {
+		 return Bits.get(occupied, cellId(row, col));
+	 }
+
+	 public long getOccupancyVersion() {
+		 return occupancyVersion;
+	 }
+
+	 public long getLayoutVersion() {
+		 return layoutVersion;
+	 }
+
+	 public int getCellId(BoardCell cell) {
+		 return cellId(cell.getRow(), cell.getColumn());
+	 }
+
+	 // Fewest steps from the cell to the room's center, or Integer.MAX_VALUE if it cannot get there
+	 public int getRoomDistance(char roomInitial, BoardCell cell) {
+		 int distance = distanceFields.distance(roomInitial, cellId(cell.getRow(), cell.getColumn()));
+		 return distance == DistanceFields.UNREACHABLE ? Integer.MAX_VALUE : distance;
+	 }
+
+	 public BoardCell getCellById(int id) {
+		 return cellsById[id];
+	 }
+
 	 private void validateAndSetGridDimensions(List<String[]> lines) throws BadConfigFormatException {
 		numRows = lines.size();
 		numColumns = lines.get(0).length;
@@ -267,6 +472,8 @@ public class Board extends JPanel {
      public void loadSetupConfig() throws BadConfigFormatException {
     	 // Clear existing room map for singleton pattern
     	 roomMap.clear();
+    	 roomsByCard.clear();
+    	 cardRegistry = new CardRegistry();
     	    
     	 try (BufferedReader reader = new BufferedReader(new FileReader(setupConfigFile))) {
     		 String line;
@@ -300,7 +507,9 @@ public class Board extends JPanel {
     	            roomMap.put(initial, room);
 
     	            // Add a card for this room (only if it's a Room, not Space)
-    	            deck.add(new Card(name, CardType.ROOM));
+    	            Card roomCard = cardRegistry.register(name, CardType.ROOM);
+    	            addCardToDeck(roomCard);
+    	            roomsByCard.put(roomCard, room);
     	            break;
     	        }
     	        case "Space": {
@@ -319,10 +528,12 @@ public class Board extends JPanel {
     	            String color = parts[2].trim();  
     	            int row = Integer.parseInt(parts[3].trim());
     	            int col = Integer.parseInt(parts[4].trim());
-    	            Player player = new HumanPlayer(name, color, row, col);  
-    	            players.add(player);
+    	            Player player = computerOnly
+    	                    ? new ComputerPlayer(name, color, row, col)
+    	                    : new HumanPlayer(name, color, row, col);
+    	            addPlayer(player);
 
-    	            deck.add(new Card(name, CardType.PERSON));
+    	            addCardToDeck(cardRegistry.register(name, CardType.PERSON));
     	            break;
     	        }
 
@@ -333,15 +544,15 @@ public class Board extends JPanel {
     	            int row = Integer.parseInt(parts[3].trim());
     	            int col = Integer.parseInt(parts[4].trim());
     	            Player player = new ComputerPlayer(name, color, row, col); 
-    	            players.add(player);
+    	            addPlayer(player);
 
-    	            deck.add(new Card(name, CardType.PERSON));
+    	            addCardToDeck(cardRegistry.register(name, CardType.PERSON));
     	            break;
     	        }
     	        case "Weapon": {
     	            if (parts.length < 2) throw new BadConfigFormatException("Invalid weapon line: " + line);
     	            String weaponName = parts[1].trim();
-    	            deck.add(new Card(weaponName, CardType.WEAPON)); // Add WEAPON card
+    	            addCardToDeck(cardRegistry.register(weaponName, CardType.WEAPON)); // Add WEAPON card
     	            break;
     	        }
     	        default:
@@ -356,6 +567,15 @@ public class Board extends JPanel {
     	 this.layoutConfigFile = layoutConfigFile;
     	 this.setupConfigFile = setupConfigFile;
      }
+
+     // Takes effect on the next initialize()
+     public void setComputerOnly(boolean computerOnly) {
+    	 this.computerOnly = computerOnly;
+     }
+
+     public boolean isComputerOnly() {
+    	 return computerOnly;
+     }
      
      public Room getRoom(char roomInitial) {
     	 return roomMap.get(roomInitial);
@@ -382,46 +602,90 @@ public class Board extends JPanel {
 		 return roomMap;
 	 }
 	 
-	 private void findAllTargets(BoardCell cell, int stepsRemaining) {
-		 for (BoardCell adjCell : getAdjList(cell.getRow(), cell.getColumn())) {
-			 boolean isRoom = adjCell.isRoomCenter() || adjCell.isLabel() || adjCell.getInitial() != 'W';
-			 if (!visited.contains(adjCell) && (!adjCell.isOccupied() || isRoom)) {
-				 visited.add(adjCell);
-				 if (adjCell.isRoomCenter() || stepsRemaining == 1) {
-					 targets.add(adjCell);
-				 } else {
-					 findAllTargets(adjCell, stepsRemaining - 1);
-				 }
-				 visited.remove(adjCell);
-			 }
-		 }
-	 }
-	 
-	
 	 public Set<BoardCell> calcTargets(int row, int col, int pathLength) {
-		    targets = new HashSet<>();
-		    visited = new HashSet<>();
+		    targets = toCellSet(calcTargetBits(row, col, pathLength));
+		    return targets;
+		}
+
+		/*
+		 * Bitset form of calcTargets: bit i is set when the cell with id i
+		 * (see getCellId) is a target. The array belongs to the board and is
+		 * overwritten by the next call. Results are looked up in the target
+		 * cache first; it copies them in and out of entries it reuses, so
+		 * once it is full, repeated queries allocate nothing.
+		 */
+		public long[] calcTargetBits(int row, int col, int pathLength) {
+		    return calcTargetBits(row, col, pathLength, boardScratch);
+		}
 
+		/*
+		 * Reentrant target query: all working memory comes from the caller's
+		 * scratch (see newTargetScratch) and no board fields are written, so
+		 * any number of threads may query one board at once as long as no
+		 * player moves meanwhile. Returns scratch.getResult().
+		 */
+		public long[] calcTargetBits(int row, int col, int pathLength, TargetScratch scratch) {
+		    if (!scratch.fits(cellsById.length)) {
+		        throw new IllegalArgumentException("Scratch was made for a board with " + scratch.numCells + " cells");
+		    }
 		    BoardCell startCell = grid[row][col];
-		    visited.add(startCell);
-		    findAllTargets(startCell, pathLength); // This fills targets
+		    int startId = cellId(row, col);
+		    long key = occupancyKey;
+		    TargetCache cache = targetCache;
+		    if (cache != null) {
+		        if (cache.get(startId, pathLength, key, scratch.result)) {
+		            return scratch.result;
+		        }
+		    }
+
+		    long[] targetBits = movementRules.useExactSearch(pathLength)
+		            ? targetEngine.calcTargets(startId, pathLength, scratch)
+		            : boundedTargetEngine.calcTargets(startId, pathLength, scratch);
 
 		    // Add secret passage cell as a target, if it exists
 		    char secret = startCell.getSecretPassage();
 		    if (secret != ' ') {
 		        BoardCell passageCell = findRoomCenterCell(secret);
 		        if (passageCell != null && !passageCell.isOccupied()) {
-		            targets.add(passageCell);
+		            Bits.set(targetBits, cellId(passageCell.getRow(), passageCell.getColumn()));
 		        }
 		    }
 
-		    // Remove occupied cells from targets (except secret passage cell already handled)
-		    for (Player p : players) {
-		        BoardCell occupiedCell = grid[p.getRow()][p.getColumn()];
-		        targets.remove(occupiedCell);
+		    if (cache != null) {
+		        cache.put(startId, pathLength, key, targetBits);
 		    }
+		    return targetBits;
+		}
 
-		    return targets;
+		/*
+		 * Thread-safe counterpart of calcTargets: uses a per-thread scratch and
+		 * returns a new set, leaving getTargets/isTarget untouched.
+		 */
+		public Set<BoardCell> findTargets(int row, int col, int pathLength) {
+		    TargetScratch scratch = localScratch.get();
+		    if (!scratch.fits(cellsById.length)) {
+		        scratch = newTargetScratch();
+		        localScratch.set(scratch);
+		    }
+		    return toCellSet(calcTargetBits(row, col, pathLength, scratch));
+		}
+
+		public TargetScratch newTargetScratch() {
+		    return new TargetScratch(cellsById.length);
+		}
+
+		// Cells come out in id order, so choices among targets are reproducible
+		private Set<BoardCell> toCellSet(long[] targetBits) {
+		    Set<BoardCell> cells = new LinkedHashSet<>();
+		    for (int w = 0; w < targetBits.length; w++) {
+		        long word = targetBits[w];
+		        while (word != 0) {
+		            int id = (w << 6) + Long.numberOfTrailingZeros(word);
+		            cells.add(cellsById[id]);
+		            word &= word - 1;
+		        }
+		    }
+		    return cells;
 		}
 
 		// Overloaded method to satisfy test calls using BoardCell
@@ -438,33 +702,23 @@ public class Board extends JPanel {
 		 return new HashSet<>(targets);
 	 }
 	 
+	 // Adjacency is precomputed by buildAdjacency when the layout is loaded
 	 public Set<BoardCell> getAdjList(int row, int col) {
-		 Set<BoardCell> adj = new HashSet<>();
-		 BoardCell cell = getCell(row, col);
+		 return getCell(row, col).getAdjList();
+	 }
+
+	 private void computeAdjacency(BoardCell cell, Set<BoardCell> adj) {
+		 int row = cell.getRow();
+		 int col = cell.getColumn();
 		 
 		 if (cell.getInitial() == 'W' && !cell.isDoorway()) {
 			 addWalkwayAdjacency(row, col, adj);
 		 }
 		    
 		 else if (cell.isDoorway()) {
-			 DoorDirection dir = cell.getDoorDirection();
-			 int targetRow = row;
-			 int targetCol = col;
-		        
-			 // Step into the room in the direction the door is facing
-			 switch (dir) {
-			 	case UP:    targetRow = row - 1; break;
-			 	case DOWN:  targetRow = row + 1; break;
-			 	case LEFT:  targetCol = col - 1; break;
-			 	case RIGHT: targetCol = col + 1; break;
-			 	default: break;
-			 }
-
-			 // Make sure it's inside the board bounds
-			 if (targetRow >= 0 && targetRow < getNumRows() && targetCol >= 0 && targetCol < getNumColumns()) {
-				 BoardCell roomCell = getCell(targetRow, targetCol);
-				 char roomInitial = roomCell.getInitial();  // Now we have the room's initial
-				 Room room = roomMap.get(roomInitial);
+			 BoardCell roomCell = getDoorRoomCell(cell);
+			 if (roomCell != null) {
+				 Room room = roomMap.get(roomCell.getInitial());
 				 if (room != null && room.getCenterCell() != null) {
 					 adj.add(room.getCenterCell());  // Add center of the room
 				 }
@@ -476,31 +730,9 @@ public class Board extends JPanel {
 		 } 
 		    
 		 else if (cell.isRoomCenter()) {
-			 for (int r = 0; r < getNumRows(); r++) {
-				 for (int c = 0; c < getNumColumns(); c++) {
-					 BoardCell potentialDoor = getCell(r, c);
-					 if (!potentialDoor.isDoorway()) {
-						 continue;
-					 }
-
-					 DoorDirection dir = potentialDoor.getDoorDirection();
-					 int targetRow = r, targetCol = c;
-
-					 // Find the room cell the door leads into
-					 switch (dir) {
-					 	case UP:    targetRow = r - 1; break;
-					 	case DOWN:  targetRow = r + 1; break;
-					 	case LEFT:  targetCol = c - 1; break;
-					 	case RIGHT: targetCol = c + 1; break;
-					 	default: break;
-					 }
-
-					 BoardCell roomCell = getCell(targetRow, targetCol);
-		               
-					 if (roomCell.getInitial() == cell.getInitial()) {
-						 adj.add(potentialDoor);
-					 }
-				 }
+			 List<BoardCell> doors = roomDoors.get(cell.getInitial());
+			 if (doors != null) {
+				 adj.addAll(doors);
 			 }
 
 			 // Add secret passage, if any
@@ -512,9 +744,33 @@ public class Board extends JPanel {
 				 }
 			 }
 		 }
-		 return adj;
 	 }
 	 
+	 // Returns the cell a doorway leads into, or null if it points off the board
+	 private BoardCell getDoorRoomCell(BoardCell door) {
+		 int targetRow = door.getRow();
+		 int targetCol = door.getColumn();
+
+		 // Step into the room in the direction the door is facing
+		 switch (door.getDoorDirection()) {
+		 	case UP:    targetRow--; break;
+		 	case DOWN:  targetRow++; break;
+		 	case LEFT:  targetCol--; break;
+		 	case RIGHT: targetCol++; break;
+		 	default: return null;
+		 }
+
+		 if (targetRow < 0 || targetRow >= numRows || targetCol < 0 || targetCol >= numColumns) {
+			 return null;
+		 }
+		 return grid[targetRow][targetCol];
+	 }
+
+	 public List<BoardCell> getRoomDoors(char roomInitial) {
+		 List<BoardCell> doors = roomDoors.get(roomInitial);
+		 return doors == null ? Collections.emptyList() : Collections.unmodifiableList(doors);
+	 }
+
 	 private void addWalkwayAdjacency(int row, int col, Set<BoardCell> adj) {
 		if (row > 0) {
 			 BoardCell above = getCell(row - 1, col);
@@ -542,6 +798,37 @@ public class Board extends JPanel {
 		 }
 	 }
 	 
+	 private void clearPlayers() {
+		 for (Player p : players) {
+			 p.setBoard(null);
+			 p.setSeat(-1);
+		 }
+		 players.clear();
+		 playersByName.clear();
+		 Arrays.fill(cardHolders, 0L);
+	 }
+
+	 private void addPlayer(Player player) {
+		 if (players.size() == MAX_PLAYERS) {
+			 throw new IllegalStateException("A game can have at most " + MAX_PLAYERS + " players");
+		 }
+		 player.setSeat(players.size());
+		 players.add(player);
+		 player.setBoard(this);
+		 for (Card card : player.getHand()) {
+			 handChanged(player, card, true);
+		 }
+		 player.setRandom(random.split());
+		 if (playerCounts != null && isOnBoard(player.getRow(), player.getColumn())) {
+			 int id = cellId(player.getRow(), player.getColumn());
+			 playerCounts[id]++;
+			 updateOccupiedBit(id);
+			 occupancyVersion++;
+		 }
+		 // Keep the first player with a given name, matching list order
+		 playersByName.putIfAbsent(player.getName(), player);
+	 }
+
 	 public List<Player> getPlayers() {
 		    return players;
 		}
@@ -549,6 +836,22 @@ public class Board extends JPanel {
 	 public List<Card> getDeck() {
 		    return deck;
 		}
+
+	 public List<Card> getAllCards() {
+		    return cardRegistry.getCards();
+		}
+
+	 public CardRegistry getCardRegistry() {
+		    return cardRegistry;
+		}
+
+	 public Card getCard(int id) {
+		    return cardRegistry.get(id);
+		}
+
+	 private void addCardToDeck(Card card) {
+		    deck.add(card);
+		}
 	 
 	 public Solution getSolution() {
 		    return theAnswer;
@@ -570,10 +873,9 @@ public class Board extends JPanel {
 		    List<Card> rooms = getCardsOfType(CardType.ROOM);
 		    List<Card> weapons = getCardsOfType(CardType.WEAPON);
 		    
-		    Random rand = new Random();
-		    Card person = people.remove(rand.nextInt(people.size()));
-		    Card weapon = weapons.remove(rand.nextInt(weapons.size()));
-		    Card room = rooms.remove(rand.nextInt(rooms.size()));
+		    Card person = people.remove(random.nextInt(people.size()));
+		    Card weapon = weapons.remove(random.nextInt(weapons.size()));
+		    Card room = rooms.remove(random.nextInt(rooms.size()));
 
 		    theAnswer = new Solution(person, room, weapon);
 
@@ -584,9 +886,16 @@ public class Board extends JPanel {
 		    deck.addAll(weapons);
 		}
 	 
+	 // Fisher-Yates shuffle drawing from the game's generator instead of a global one
+	 private static <T> void shuffle(List<T> list, RandomGenerator rand) {
+		    for (int i = list.size() - 1; i > 0; i--) {
+		        Collections.swap(list, i, rand.nextInt(i + 1));
+		    }
+		}
+
 	 private void dealRemainingCardsToPlayers() {
 		    List<Player> players = getPlayers(); // Assumes this returns all players
-		    Collections.shuffle(deck); // Randomize order
+		    shuffle(deck, random); // Randomize order
 
 		    int playerIndex = 0;
 		    for (Card card : deck) {
@@ -604,72 +913,63 @@ public class Board extends JPanel {
 	     this.theAnswer = solution;
 	 }
 	 
-	 public Card handleSuggestion(Player suggestingPlayer, Solution suggestion) {
-		    Card personCard = suggestion.getPerson();
-		    Card roomCard   = suggestion.getRoom();
-		    Card weaponCard = suggestion.getWeapon();
-
-		    // 1. Move suggested person into the center of the suggested room
-		    moveSuggestedPersonToRoom(personCard, roomCard);
-
-		    // Force a repaint so the piece appears in the new location immediately
-		    repaint();
-
-		    // 2. Find the first player who can disprove
-		    List<Player> playersInOrder = getPlayers();
-		    int startIndex = playersInOrder.indexOf(suggestingPlayer);
-		    Card disproved = null;
-		    Player disprover = null;
-
-		    for (int i = 1; i < playersInOrder.size(); i++) {
-		        Player current = playersInOrder.get((startIndex + i) % playersInOrder.size());
-		        Card card = current.disproveSuggestion(suggestion);
-		        if (card != null) {
-		            disproved = card;
-		            disprover = current;
-		            break;
-		        }
-		    }
+	 // Called by a player's hand whenever it gains or loses a registered card
+	 void handChanged(Player player, Card card, boolean held) {
+		 if (card.getId() < 0 || player.getSeat() < 0) {
+			 return;
+		 }
+		 if (held) {
+			 cardHolders[card.getId()] |= 1L << player.getSeat();
+		 } else {
+			 cardHolders[card.getId()] &= ~(1L << player.getSeat());
+		 }
+	 }
 
-		    // 3. Display suggestion in GameControlPanel (if available)
-		    if (controlPanel != null) {
-		        String suggestionText = suggestingPlayer.getName() + " suggests " +
-		                personCard.getName() + ", " +
-		                roomCard.getName() + ", " +
-		                weaponCard.getName();
-		        controlPanel.setGuess(suggestionText);
-
-		        // 4. Display result depending on type of player and whether disproved
-		        if (disprover == null) {
-		            controlPanel.setGuessResult("No new clue");
-
-		            // If computer, prep for accusation
-		            if (suggestingPlayer instanceof ComputerPlayer &&
-		                !suggestingPlayer.getHand().contains(roomCard)) {
-		                ((ComputerPlayer) suggestingPlayer).setReadyToAccuse(true);
-		                ((ComputerPlayer) suggestingPlayer).setStoredAccusation(suggestion);
-		            }
-		        } else {
-		            if (suggestingPlayer instanceof HumanPlayer) {
-		                controlPanel.setGuessResult(
-		                    "Disproven by " + disprover.getName() + ": " + disproved.getName()
-		                );
-		            } else {
-		                controlPanel.setGuessResult(
-		                    "Disproven by " + disprover.getName()
-		                );
-		            }
-		        }
-		    }
+	 /*
+	  * The first player after the suggester, in turn order, holding any of
+	  * the suggested cards, or null if nobody can disprove. Looks up the
+	  * card holder index rather than asking each player in turn.
+	  */
+	 public Player findDisprover(Player suggestingPlayer, Solution suggestion) {
+		 int seat = suggestingPlayer.getSeat();
+		 if (seat < 0 || suggestingPlayer.getBoard() != this || !suggestion.isRegistered()) {
+			 return findDisproverByAsking(suggestingPlayer, suggestion);
+		 }
 
-		    return disproved;
+		 long holders = cardHolders[suggestion.getPerson().getId()]
+				 | cardHolders[suggestion.getWeapon().getId()]
+				 | cardHolders[suggestion.getRoom().getId()];
+		 holders &= ~(1L << seat);
+		 if (holders == 0) {
+			 return null;
+		 }
+		 // Seats after the suggester come first, then wrap around
+		 long after = seat == 63 ? 0L : holders & (-1L << (seat + 1));
+		 return players.get(Long.numberOfTrailingZeros(after != 0 ? after : holders));
+	 }
+
+	 // Slow path for suggestions made from cards outside this game's registry
+	 private Player findDisproverByAsking(Player suggestingPlayer, Solution suggestion) {
+		 int startIndex = players.indexOf(suggestingPlayer);
+		 for (int i = 1; i < players.size(); i++) {
+			 Player current = players.get((startIndex + i) % players.size());
+			 if (current.disproveSuggestion(suggestion) != null) {
+				 return current;
+			 }
+		 }
+		 return null;
+	 }
+
+	 public Card handleSuggestion(Player suggestingPlayer, Solution suggestion) {
+		    return engine.handleSuggestion(suggestingPlayer, suggestion);
+		}
+
+	 public GameEngine getEngine() {
+		    return engine;
 		}
 
-	 
-	 
-	 
 	 public void loadPlayers(String setupFile) {
-		    players.clear();
+		    clearPlayers();
 		    try (BufferedReader br = new BufferedReader(new FileReader(setupFile))) {
 		        String line;
 		        while ((line = br.readLine()) != null) {
@@ -695,117 +995,115 @@ public class Board extends JPanel {
 		                        newPlayer = new HumanPlayer(name, color, row, col);
 		                    }
 
-		                    players.add(newPlayer);
+		                    addPlayer(newPlayer);
 		                }
 		            }
 		        }
 		    } catch (IOException e) {
 		        e.printStackTrace();
 		    }
+		    rebuildOccupancy();
 		}
 	 
+	 // Through the turn runner if there is one, so computer players think off the Event Dispatch Thread
 	 public void handleNextTurn() {
-		    // 1. If game over, stop
-		    if (gameOver) {
-		        JOptionPane.showMessageDialog(null, "Game over! Please start a new game.");
-		        return;
-		    }
-
-		    // 2. Prevent skipping human's move if they haven't finished
-		    if (humanMustFinish) {
-		        JOptionPane.showMessageDialog(null, "You must finish your move before ending your turn!");
-		        return;
+		    if (turnRunner != null) {
+		    	turnRunner.nextTurn();
+		    } else {
+		    	engine.nextTurn();
 		    }
+		}
 
-		    // 3. Advance to next player
-		    do {
-		        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-		    } while (players.get(currentPlayerIndex).isEliminated());
-		    Player currentPlayer = players.get(currentPlayerIndex);
-
-		    // 4. Roll dice for movement
-		    int roll = rollDie();
-
-		    // 5. Update control panel
-		    String turnMessage = "It is " + currentPlayer.getName() + "'s turn. Roll: " + roll;
-		    controlPanel.setTurn(turnMessage);
-		    controlPanel.setRoll(roll);
-
-		    if (currentPlayer instanceof ComputerPlayer) {
-		        ComputerPlayer cpu = (ComputerPlayer) currentPlayer;
-
-		        // --- Check pending accusation from last turn ---
-		        if (cpu.isReadyToAccuse()) {
-		            boolean correct = checkAccusation(cpu.getStoredAccusation());
-		            JOptionPane.showMessageDialog(null,
-		                cpu.getName() + (correct ? " wins!" : " loses!"));
-		            gameOver = true;
-		            cpu.setReadyToAccuse(false);
-		            cpu.setStoredAccusation(null);
-		            return; // End turn immediately after accusation
-		        }
-
-		        // --- Normal move ---
-		        Set<BoardCell> targets = calcTargets(cpu.getRow(), cpu.getColumn(), roll);
-		        BoardCell chosen = cpu.selectTarget(targets);
-		        cpu.moveTo(chosen);
-
-		        clearTargets();
-		        boardGUI.repaint();
-
-		        // --- If ended in a room, create and handle suggestion ---
-		        if (chosen.isRoomCenter()) {
-		            Solution suggestion = cpu.createSuggestion(this); // Pass board instance
-		            handleSuggestion(cpu, suggestion); // This sets accusation state if needed
-		        }
+	 public void setTurnRunner(ComputerTurnRunner turnRunner) {
+		 if (this.turnRunner != null) {
+			 this.turnRunner.shutdown();
+		 }
+		 this.turnRunner = turnRunner;
+		}
 
-		    } else {
-		        // --- Human player's turn ---
-		        controlPanel.enableAccusationButton(true);
-		        humanMustFinish = true;
-		        Set<BoardCell> targets = calcTargets(currentPlayer.getRow(), currentPlayer.getColumn(), roll);
-		        highlightTargets(targets);
-		        boardGUI.repaint();
-		    }
+	 // True while a computer player is working out its turn on the turn runner
+	 public boolean isComputerThinking() {
+		 return turnRunner != null && turnRunner.isThinking();
 		}
 
 
+	 // The control panel is one listener among several; replaces any previous one
 	 public void setControlPanel(GameControlPanel controlPanel) {
+		 if (this.controlPanel != null) {
+			 engine.removeListener(this.controlPanel);
+		 }
 		 this.controlPanel = controlPanel;
+		 engine.addListener(controlPanel);
 		}
  
 	 
-	 private int rollDie() {
-		Random rand = new Random();
-		return rand.nextInt(6) + 1; // 1 to 6
+	 int rollDie() {
+		return movementRules.getDice().roll(random);
+		}
+
+	 /*
+	  * Seeds this game's generator. Call before initialize() so the deal,
+	  * the players' choices and every roll can be replayed exactly.
+	  */
+	 public void setSeed(long seed) {
+		random = new SplittableRandom(seed);
+		}
+
+	 public RandomGenerator getRandom() {
+		return random;
+		}
+
+	 public MovementRules getMovementRules() {
+		return movementRules;
+		}
+
+	 public void setMovementRules(MovementRules movementRules) {
+		this.movementRules = movementRules;
+		if (targetCache != null) {
+			targetCache.clear();
+		}
+		}
+
+	 // Size 0 turns target caching off
+	 public void setTargetCacheSize(int size) {
+		targetCache = size > 0 ? new TargetCache(size) : null;
+		}
+
+	 public TargetCache getTargetCache() {
+		return targetCache;
 		}
 	 
 	 public void highlightTargets(Set<BoardCell> newTargets) {
-		    
-		    // Clear all previous highlights
-		 for (int row = 0; row < numRows; row++) {
-		    for (int col = 0; col < numColumns; col++) {
-		        grid[row][col].setHighlighted(false);
-		    }
-		}
-		    // Set highlights on targets
+		// Clear only the previous highlights rather than the whole grid
+		unhighlightCells();
 		for (BoardCell cell : newTargets) {
 		    cell.setHighlighted(true);
+		    highlightedCells.add(cell);
 		    }
+		}
+
+	 // The cells highlightTargets last highlighted, for RenderSnapshot
+	 List<BoardCell> getHighlightedCells() {
+		return highlightedCells;
+		}
 
-		    boardGUI.repaint();
+	 private void unhighlightCells() {
+		for (BoardCell cell : highlightedCells) {
+			cell.setHighlighted(false);
+		}
+		highlightedCells.clear();
 		}
 
 	public boolean isHumanTurnToMove() {
-		return humanMustFinish;
+		return engine.isHumanMustFinish();
 		}
 	 
 	public boolean isHumanMustFinish() {
-		return humanMustFinish;
+		return engine.isHumanMustFinish();
 		}
 
 	public void setHumanMustFinish(boolean value) {
-		humanMustFinish = value;
+		engine.setHumanMustFinish(value);
 	    }
 
 	public boolean isTarget(BoardCell cell) {
@@ -813,25 +1111,26 @@ public class Board extends JPanel {
 	    }
 
 	public void moveCurrentPlayerTo(BoardCell cell) {
-		Player currentPlayer = players.get(currentPlayerIndex);
+		Player currentPlayer = engine.getCurrentPlayer();
 		currentPlayer.moveTo(cell);
 	    }
 
 	public void clearHighlights() {
-		for (int r = 0; r < numRows; r++) {
-			for (int c = 0; c < numColumns; c++) {
-				grid[r][c].setHighlighted(false);
-		    }
-		}
+		unhighlightCells();
 		targets.clear();
 	    }
 	 
 	public Player getCurrentPlayer() {
-		return players.get(currentPlayerIndex);
+		return engine.getCurrentPlayer();
 		}
 		
+	// The board view is one listener among several; replaces any previous one
 	public void setBoardGUI(BoardGUI boardGUI) {
+		if (this.boardGUI != null) {
+			engine.removeListener(this.boardGUI);
+		}
 		this.boardGUI = boardGUI;
+		engine.addListener(boardGUI);
 		}
 		
 	public void clearTargets() {
@@ -839,81 +1138,37 @@ public class Board extends JPanel {
 		}
 		
 	public BoardCell findRoomCenterCell(char initial) {
-		for (int row = 0; row < numRows; row++) {
-			for (int col = 0; col < numColumns; col++) {
-				BoardCell cell = grid[row][col];
-		        if (cell.getInitial() == initial && cell.isRoomCenter()) {
-		        	return cell;
-		        }
-		     }
-		}
-		return null;  // Not found
+		Room room = roomMap.get(initial);
+		return room == null ? null : room.getCenterCell();
 		}
 	public boolean isGameOver() {
-	    return gameOver;
+	    return engine.isGameOver();
 	}
 	
-	private void moveSuggestedPersonToRoom(Card personCard, Card roomCard) {
+	// Returns the player that was moved, or null if there was no one to move
+	Player moveSuggestedPersonToRoom(Card personCard, Card roomCard) {
 	    BoardCell roomCell = getRoomCell(roomCard);
-	    if (roomCell == null) return; // room not found
+	    if (roomCell == null) return null; // room not found
 
-	    for (Player p : players) {
-	        if (p.getName().equals(personCard.getName())) {
-	            p.setLocation(roomCell.getRow(), roomCell.getColumn());
-	            break;
-	        }
+	    Player p = playersByName.get(personCard.getName());
+	    if (p != null) {
+	        p.setLocation(roomCell.getRow(), roomCell.getColumn());
 	    }
+	    return p;
+	}
+	
+	public Room getRoom(Card roomCard) {
+	    return roomsByCard.get(roomCard);
 	}
 	
 	private BoardCell getRoomCell(Card roomCard) {
-	    for (Map.Entry<Character, Room> entry : roomMap.entrySet()) {
-	        if (entry.getValue().getName().equals(roomCard.getName())) {
-	            return entry.getValue().getCenterCell();
-	        }
-	    }
-	    return null;
+	    Room room = roomsByCard.get(roomCard);
+	    return room == null ? null : room.getCenterCell();
 	}
 	
-	public void processHumanMove(BoardCell destination, Component parentComponent) {
-	    Player human = players.get(currentPlayerIndex);
-	    
-	    if (human.isEliminated()) {
-	        JOptionPane.showMessageDialog(parentComponent, "You have been eliminated and cannot move.");
-	        return; // skip move
-	    }
-	    
-	    human.moveTo(destination);
-	    clearHighlights();
-	    boardGUI.repaint();
-
-	    if (destination.isRoomCenter()) {
-	        // Get the room name for the cell the human is in
-	        String currentRoomName = getRoom(destination).getName();
-
-	        // Get the parent Frame for the dialog
-	        Frame frame = JOptionPane.getFrameForComponent(parentComponent);
-
-	        // Pass only the current room name
-	        SuggestionDialog suggestionDialog = new SuggestionDialog(
-	            frame,
-	            currentRoomName,
-	            getPeopleNames(),
-	            getWeaponNames()
-	        );
-
-	        suggestionDialog.setVisible(true);  // This will block until closed
-
-	        if (suggestionDialog.isSubmitted()) {
-	            Solution suggestion = createSolutionFromStrings(
-	                suggestionDialog.getSelectedPerson(),
-	                suggestionDialog.getSelectedWeapon(),
-	                suggestionDialog.getSelectedRoom()
-	            );
-	            handleSuggestion(human, suggestion);
-	        }
-	    }
-
-	    humanMustFinish = false; // Mark human done, allow next turn
+	// Suggestions after entering a room are requested from the engine's listeners
+	public boolean processHumanMove(BoardCell destination) {
+	    return engine.moveHuman(destination);
 	}
 
 
@@ -925,12 +1180,11 @@ public class Board extends JPanel {
 	    return people;
 	}
 	
+	// Includes the solution's weapon, which is never in the dealt deck
 	public List<String> getWeaponNames() {
 	    List<String> weapons = new ArrayList<>();
-	    for (Card c : deck) {
-	        if (c.getType() == CardType.WEAPON) {
-	            weapons.add(c.getName());
-	        }
+	    for (Card c : cardRegistry.getCards(CardType.WEAPON)) {
+	        weapons.add(c.getName());
 	    }
 	    return weapons;
 	}
@@ -955,24 +1209,12 @@ public class Board extends JPanel {
 
 	
 	public Solution createSolutionFromStrings(String personName, String weaponName, String roomName) {
-	    Card personCard = null;
-	    Card weaponCard = null;
-	    Card roomCard = null;
-
-	    for (Card c : deck) {
-	        if (c.getName().equalsIgnoreCase(personName)) {
-	            personCard = c;
-	        }
-	        if (c.getName().equalsIgnoreCase(weaponName)) {
-	            weaponCard = c;
-	        }
-	        if (c.getName().equalsIgnoreCase(roomName)) {
-	            roomCard = c;
-	        }
-	    }
+	    Card personCard = cardRegistry.find(personName, CardType.PERSON);
+	    Card weaponCard = cardRegistry.find(weaponName, CardType.WEAPON);
+	    Card roomCard = cardRegistry.find(roomName, CardType.ROOM);
 
 	    if (personCard != null && weaponCard != null && roomCard != null) {
-	        return new Solution(personCard, weaponCard, roomCard);
+	        return new Solution(personCard, roomCard, weaponCard);
 	    } else {
 	        // You can also throw an exception or handle the error here
 	        return null;
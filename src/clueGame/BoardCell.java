@@ -24,6 +24,8 @@ public class BoardCell {
 	private Set<BoardCell> adjList = new HashSet<>();
 	private boolean isOccupied = false;
 	private boolean isHighlighted = false;
+	// Board that owns this cell, told when the occupied flag changes
+	private Board board;
 	
 	public BoardCell() {
 		
@@ -96,6 +98,17 @@ public class BoardCell {
 
 	public void setOccupied(boolean isOccupied) {
 		this.isOccupied = isOccupied;
+		if (board != null) {
+			board.cellOccupancyChanged(this);
+		}
+	}
+
+	void setBoard(Board board) {
+		this.board = board;
+	}
+
+	Board getBoard() {
+		return board;
 	}
 
 	public boolean isOccupied() {
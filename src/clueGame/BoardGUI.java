@@ -4,10 +4,10 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.HashSet;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.List;
 
 
 /**
@@ -17,16 +17,45 @@ import java.util.List;
  * It draws cells, rooms, walkways, unused areas, doorways, room names, 
  * and player pieces. The design incorporates Star Wars–themed color coding.
  * 
- * The board is rendered dynamically based on the current game state.
+ * The view scrolls, and zooms with Ctrl and the mouse wheel through a fixed
+ * set of cell sizes. The layout never changes during a game, so it is
+ * drawn in square tiles of cells, once per tile and cell size, and each
+ * repaint copies only the tiles inside the clip before drawing the room
+ * names, target highlights and player pieces it covers. Highlights and
+ * pieces come from the engine's latest RenderSnapshot rather than the
+ * live board, and each new snapshot repaints only the cells it changes.
  * 
  * Authors: Shaurya Saxena, Logan Matthews  
  * Date: August 5, 2025
  */
 
-public class BoardGUI extends JPanel {
+public class BoardGUI extends JPanel implements GameListener, Scrollable {
 
     private static final int CELL_SIZE = 30;
+    // Cell sizes the view zooms through, smallest first; CELL_SIZE is the default
+    private static final int[] ZOOM_CELL_SIZES = {4, 8, 12, 20, 30, 45, 60};
+    private static final int DOOR_THICKNESS = 6;
+    private static final Font ROOM_NAME_FONT = new Font("SansSerif", Font.BOLD, 14);
+    // Room names are left off once the font would be too small to read
+    private static final float MIN_ROOM_NAME_SIZE = 6f;
+    // Tiles are about this many pixels square at every zoom level
+    private static final int TILE_PIXELS = 256;
+    private static final int MAX_TILES = 256;
+    // The most the view asks for before it scrolls
+    private static final Dimension MAX_VIEWPORT = new Dimension(1200, 900);
     private Board board;
+    private int zoomLevel;
+    private int cellSize = CELL_SIZE;
+    private Font roomNameFont = ROOM_NAME_FONT;
+    // Pre-drawn tiles by cell size and tile position, least recently used first,
+    // and the layout version they were drawn from
+    private final Map<Long, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+    private long tilesVersion = -1;
 
     // Star Wars–themed room colors
     private static final Map<Character, Color> ROOM_COLORS = Map.of(
@@ -46,107 +75,277 @@ public class BoardGUI extends JPanel {
 
     public BoardGUI(Board board) {
         this.board = board;
+        for (int level = 0; level < ZOOM_CELL_SIZES.length; level++) {
+            if (ZOOM_CELL_SIZES[level] == CELL_SIZE) {
+                zoomLevel = level;
+            }
+        }
         
-        setPreferredSize(new Dimension(board.getNumColumns() * CELL_SIZE, board.getNumRows() * CELL_SIZE));
-        this.addMouseListener(new MouseAdapter() {
+        setPreferredSize(new Dimension(board.getNumColumns() * cellSize, board.getNumRows() * cellSize));
+        MouseAdapter mouse = new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
                 handleBoardClick(e.getX(), e.getY());
-                
-                
             }
-        });
 
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown()) {
+                    zoom(-e.getWheelRotation(), e.getPoint());
+                } else if (getParent() != null) {
+                    // Plain wheel turns still scroll the view
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(BoardGUI.this, e, getParent()));
+                }
+            }
+        };
+        this.addMouseListener(mouse);
+        this.addMouseWheelListener(mouse);
+
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /*
+     * Zooms in (positive steps) or out through the cell sizes, keeping the
+     * board point under the anchor in the same place on screen.
+     */
+    public void zoom(int steps, Point anchor) {
+        int level = Math.max(0, Math.min(ZOOM_CELL_SIZES.length - 1, zoomLevel + steps));
+        if (level == zoomLevel) {
+            return;
+        }
+        int oldSize = cellSize;
+        zoomLevel = level;
+        cellSize = ZOOM_CELL_SIZES[level];
+        roomNameFont = ROOM_NAME_FONT.deriveFont(ROOM_NAME_FONT.getSize2D() * cellSize / CELL_SIZE);
+
+        Dimension size = new Dimension(board.getNumColumns() * cellSize, board.getNumRows() * cellSize);
+        setPreferredSize(size);
+        if (getParent() instanceof JViewport) {
+            JViewport viewport = (JViewport) getParent();
+            Point view = viewport.getViewPosition();
+            Dimension extent = viewport.getExtentSize();
+            setSize(size);
+            int x = (int) ((long) anchor.x * cellSize / oldSize) - (anchor.x - view.x);
+            int y = (int) ((long) anchor.y * cellSize / oldSize) - (anchor.y - view.y);
+            x = Math.max(0, Math.min(x, size.width - extent.width));
+            y = Math.max(0, Math.min(y, size.height - extent.height));
+            viewport.setViewPosition(new Point(x, y));
+        }
+        revalidate();
+        repaint();
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        Set<BoardCell> roomCentersDrawn = new HashSet<>();
-
-        // Get the current target cells from Board
-        Set<BoardCell> targets = board.getTargets();
-
-        for (int row = 0; row < board.getNumRows(); row++) {
-            for (int col = 0; col < board.getNumColumns(); col++) {
-                BoardCell cell = board.getCell(row, col);
-                int x = col * CELL_SIZE;
-                int y = row * CELL_SIZE;
-                char initial = cell.getInitial();
-
-                // If cell is a target, highlight it first
-                if (targets != null && targets.contains(cell)) {
-                    g.setColor(Color.RED);  // Highlight color for targets
-                    g.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                    g.setColor(Color.BLACK);
-                    g.drawRect(x, y, CELL_SIZE, CELL_SIZE);
-                } 
-                else if (initial == 'W') { // Walkway
-                    g.setColor(WALKWAY_COLOR);
-                    g.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                    g.setColor(Color.BLACK);
-                    g.drawRect(x, y, CELL_SIZE, CELL_SIZE);
-                } 
-                else if (initial == 'X') { // Unused
-                    g.setColor(UNUSED_COLOR);
-                    g.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                } 
-                else { // Room
-                    g.setColor(ROOM_COLORS.getOrDefault(initial, Color.GRAY));
-                    g.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                }
-
-                // Draw doors if cell is a doorway
-                if (cell.isDoorway()) {
-                    g.setColor(Color.CYAN);  // Door color
-                    int doorThickness = 6;
-                    switch (cell.getDoorDirection()) {
-                        case UP:
-                            g.fillRect(x, y, CELL_SIZE, doorThickness);
-                            break;
-                        case DOWN:
-                            g.fillRect(x, y + CELL_SIZE - doorThickness, CELL_SIZE, doorThickness);
-                            break;
-                        case LEFT:
-                            g.fillRect(x, y, doorThickness, CELL_SIZE);
-                            break;
-                        case RIGHT:
-                            g.fillRect(x + CELL_SIZE - doorThickness, y, doorThickness, CELL_SIZE);
-                            break;
-                        default:
-                            break;
-                    }
-                }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int firstRow = Math.max(0, clip.y / cellSize);
+        int firstCol = Math.max(0, clip.x / cellSize);
+        int lastRow = Math.min(board.getNumRows() - 1, (clip.y + clip.height - 1) / cellSize);
+        int lastCol = Math.min(board.getNumColumns() - 1, (clip.x + clip.width - 1) / cellSize);
+        if (firstRow > lastRow || firstCol > lastCol) {
+            return;
+        }
 
-                // Draw room name at room center cells, only once per room
-                if (cell.isRoomCenter() && !roomCentersDrawn.contains(cell)) {
-                    roomCentersDrawn.add(cell);
-                    String roomName = board.getRoom(initial).getName();
-                    g.setColor(Color.WHITE);
-                    g.setFont(new Font("SansSerif", Font.BOLD, 14));
+        // The layout itself comes from tiles drawn in advance
+        int tileCells = tileCells();
+        for (int tileRow = firstRow / tileCells; tileRow <= lastRow / tileCells; tileRow++) {
+            for (int tileCol = firstCol / tileCells; tileCol <= lastCol / tileCells; tileCol++) {
+                int x = tileCol * tileCells * cellSize;
+                int y = tileRow * tileCells * cellSize;
+                g.drawImage(tile(tileRow, tileCol), x, y, null);
+            }
+        }
 
-                    FontMetrics fm = g.getFontMetrics();
-                    int textWidth = fm.stringWidth(roomName);
-                    int textHeight = fm.getHeight();
+        // Everything that moves comes from one snapshot, read once
+        RenderSnapshot snapshot = board.getEngine().getSnapshot();
 
-                    int textX = x + (CELL_SIZE - textWidth) / 2;
-                    int textY = y + (CELL_SIZE + textHeight) / 2 - fm.getDescent();
+        // Target highlights go over the cells they cover
+        for (int i = 0; i < snapshot.getTargetCount(); i++) {
+            int row = snapshot.getTargetRow(i);
+            int col = snapshot.getTargetColumn(i);
+            if (row >= firstRow && row <= lastRow && col >= firstCol && col <= lastCol) {
+                drawCell(g, board.getCell(row, col), true);
+            }
+        }
 
-                    g.drawString(roomName, textX, textY);
+        // Room names may spill past their center cell, so check the text itself
+        if (roomNameFont.getSize2D() >= MIN_ROOM_NAME_SIZE) {
+            g.setFont(roomNameFont);
+            FontMetrics fm = g.getFontMetrics();
+            for (Room room : board.getRoomMap().values()) {
+                BoardCell center = room.getCenterCell();
+                if (center != null) {
+                    drawRoomName(g, fm, room.getName(), center, clip);
                 }
             }
         }
 
         // Draw players last to ensure they appear on top
-        for (Player player : board.getPlayers()) {
-            int px = player.getColumn() * CELL_SIZE + 5;
-            int py = player.getRow() * CELL_SIZE + 5;
-            Color playerColor = player.getColorObject();
+        int inset = cellSize / 6;
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            int row = snapshot.getPlayerRow(i);
+            int col = snapshot.getPlayerColumn(i);
+            if (row < firstRow || row > lastRow || col < firstCol || col > lastCol) {
+                continue;
+            }
+            int px = col * cellSize + inset;
+            int py = row * cellSize + inset;
+            Color playerColor = snapshot.getPlayerColor(i);
 
             g.setColor(playerColor);
-            g.fillOval(px, py, CELL_SIZE - 10, CELL_SIZE - 10);
+            g.fillOval(px, py, cellSize - 2 * inset, cellSize - 2 * inset);
+        }
+    }
+
+    // Cells along each side of a tile at the current cell size
+    private int tileCells() {
+        return Math.max(1, TILE_PIXELS / cellSize);
+    }
+
+    /*
+     * The cells and doors of one tile at the current cell size, drawn the
+     * first time it is needed. Every tile is thrown away when the board
+     * loads a different layout.
+     */
+    private BufferedImage tile(int tileRow, int tileCol) {
+        long version = board.getLayoutVersion();
+        if (tilesVersion != version) {
+            tiles.clear();
+            tilesVersion = version;
+        }
+        long key = ((long) cellSize << 48) | ((long) tileRow << 24) | tileCol;
+        BufferedImage image = tiles.get(key);
+        if (image != null) {
+            return image;
+        }
+
+        int tileCells = tileCells();
+        int firstRow = tileRow * tileCells;
+        int firstCol = tileCol * tileCells;
+        int rows = Math.min(tileCells, board.getNumRows() - firstRow);
+        int cols = Math.min(tileCells, board.getNumColumns() - firstCol);
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        image = config != null
+                ? config.createCompatibleImage(cols * cellSize, rows * cellSize)
+                : new BufferedImage(cols * cellSize, rows * cellSize, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            // Draw in board coordinates; the image holds just this tile
+            g.translate(-firstCol * cellSize, -firstRow * cellSize);
+            for (int row = firstRow; row < firstRow + rows; row++) {
+                for (int col = firstCol; col < firstCol + cols; col++) {
+                    drawCell(g, board.getCell(row, col), false);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        tiles.put(key, image);
+        return image;
+    }
+
+    // One cell and its door strip, in red if it is a target
+    private void drawCell(Graphics g, BoardCell cell, boolean highlighted) {
+        int x = cell.getColumn() * cellSize;
+        int y = cell.getRow() * cellSize;
+        char initial = cell.getInitial();
+
+        if (highlighted) {
+            g.setColor(Color.RED);  // Highlight color for targets
+            g.fillRect(x, y, cellSize, cellSize);
+            g.setColor(Color.BLACK);
+            g.drawRect(x, y, cellSize, cellSize);
+        } 
+        else if (initial == 'W') { // Walkway
+            g.setColor(WALKWAY_COLOR);
+            g.fillRect(x, y, cellSize, cellSize);
+            g.setColor(Color.BLACK);
+            g.drawRect(x, y, cellSize, cellSize);
+        } 
+        else if (initial == 'X') { // Unused
+            g.setColor(UNUSED_COLOR);
+            g.fillRect(x, y, cellSize, cellSize);
+        } 
+        else { // Room
+            g.setColor(ROOM_COLORS.getOrDefault(initial, Color.GRAY));
+            g.fillRect(x, y, cellSize, cellSize);
         }
+
+        // Draw doors if cell is a doorway
+        if (cell.isDoorway()) {
+            g.setColor(Color.CYAN);  // Door color
+            int doorThickness = Math.max(1, DOOR_THICKNESS * cellSize / CELL_SIZE);
+            switch (cell.getDoorDirection()) {
+                case UP:
+                    g.fillRect(x, y, cellSize, doorThickness);
+                    break;
+                case DOWN:
+                    g.fillRect(x, y + cellSize - doorThickness, cellSize, doorThickness);
+                    break;
+                case LEFT:
+                    g.fillRect(x, y, doorThickness, cellSize);
+                    break;
+                case RIGHT:
+                    g.fillRect(x + cellSize - doorThickness, y, doorThickness, cellSize);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // The room's name centered on its center cell, if any of it falls inside the clip
+    private void drawRoomName(Graphics g, FontMetrics fm, String roomName, BoardCell center, Rectangle clip) {
+        int x = center.getColumn() * cellSize;
+        int y = center.getRow() * cellSize;
+        int textWidth = fm.stringWidth(roomName);
+        int textHeight = fm.getHeight();
+
+        int textX = x + (cellSize - textWidth) / 2;
+        int textY = y + (cellSize + textHeight) / 2 - fm.getDescent();
+        if (!clip.intersects(textX, textY - fm.getAscent(), textWidth, textHeight)) {
+            return;
+        }
+
+        g.setColor(Color.WHITE);
+        g.drawString(roomName, textX, textY);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension size = getPreferredSize();
+        return new Dimension(Math.min(size.width, MAX_VIEWPORT.width), Math.min(size.height, MAX_VIEWPORT.height));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return cellSize;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.HORIZONTAL ? visibleRect.width : visibleRect.height;
+        return Math.max(cellSize, extent - cellSize);
+    }
+
+    // Stretch to fill the viewport when the board is smaller than it
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return getParent() instanceof JViewport && getParent().getWidth() > getPreferredSize().width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport && getParent().getHeight() > getPreferredSize().height;
     }
 
 
@@ -157,7 +356,7 @@ public class BoardGUI extends JPanel {
 
         JFrame frame = new JFrame("Clue Board - Star Wars Edition");
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.setContentPane(new BoardGUI(board));
+        frame.setContentPane(new JScrollPane(new BoardGUI(board)));
         frame.pack();
         frame.setLocationRelativeTo(null);
         frame.setVisible(true);
@@ -165,76 +364,75 @@ public class BoardGUI extends JPanel {
     }
     
     public void handleBoardClick(int mouseX, int mouseY) {
-    	GameControlPanel controlPanel = new GameControlPanel();
-    	 if (!board.isHumanMustFinish()) return;
-        // 1) Check if human must finish turn (ask Board)
+        // Only a human waiting to move can click a target
         if (!board.isHumanMustFinish()) {
-            return;  // Not human turn or already moved
+            return;
         }
 
-        int col = mouseX / CELL_SIZE;
-        int row = mouseY / CELL_SIZE;
+        // Clicks are in the view's own coordinates, so scrolling needs no offset
+        int col = Math.floorDiv(mouseX, cellSize);
+        int row = Math.floorDiv(mouseY, cellSize);
 
         if (row < 0 || row >= board.getNumRows() || col < 0 || col >= board.getNumColumns()) {
             return;  // Outside board
         }
 
-        BoardCell clickedCell = board.getCell(row, col);
-
-        // 2) Check if clicked cell is in targets (ask Board)
-        if (board.isTarget(clickedCell)) {
-            // 3) Move player (ask Board)
-            board.moveCurrentPlayerTo(clickedCell);
-
-            // 4) Clear highlights and targets
-            board.clearHighlights();
-
-            // 5) Mark human turn finished
-            board.setHumanMustFinish(false);
-
-            // 6) Update control panel (you might need a reference to controlPanel here)
-            controlPanel.setTurn(board.getCurrentPlayer().getName() + "'s turn");
-            controlPanel.setRoll(0);
-            controlPanel.setGuess("");
-            controlPanel.setGuessResult("");
-
-            repaint();
-
-         // After moving the human player:
-            if (clickedCell.isRoomCenter()) {
-                // Get the room name for the clicked cell
-                String currentRoom = board.getRoom(clickedCell.getInitial()).getName();
-
-                // Find the owning Frame for the dialog
-                Frame owner = JOptionPane.getFrameForComponent(this);
-
-                // Create the dialog with the SINGLE room name (not a list)
-                SuggestionDialog suggestionDialog = new SuggestionDialog(
-                    owner,
-                    currentRoom,
-                    board.getPeopleNames(),
-                    board.getWeaponNames()
-                );
-
-                suggestionDialog.setVisible(true);
-
-                if (suggestionDialog.isSubmitted()) {
-                    Solution suggestion = board.createSolutionFromStrings(
-                        suggestionDialog.getSelectedPerson(),
-                        suggestionDialog.getSelectedWeapon(),
-                        suggestionDialog.getSelectedRoom()   // returns the fixed room name
-                    );
-                    if (suggestion != null) {
-                        board.handleSuggestion(board.getCurrentPlayer(), suggestion);
-                    } else {
-                        JOptionPane.showMessageDialog(this, "Error creating suggestion.");
-                    }
-                }
+        // The engine validates the move and reports back through the listener methods
+        board.getEngine().moveHuman(board.getCell(row, col));
+    }
+
+    @Override
+    public void snapshotPublished(RenderSnapshot previous, RenderSnapshot current) {
+        if (!previous.isSameGame(current)) {
+            repaint();  // a new game, not a move
+            return;
+        }
+        // Only the cells losing or gaining a highlight or a player need painting
+        for (int i = 0; i < previous.getTargetCount(); i++) {
+            repaintCell(previous.getTargetRow(i), previous.getTargetColumn(i));
+        }
+        for (int i = 0; i < current.getTargetCount(); i++) {
+            repaintCell(current.getTargetRow(i), current.getTargetColumn(i));
+        }
+        for (int i = 0; i < current.getPlayerCount(); i++) {
+            if (previous.getPlayerRow(i) != current.getPlayerRow(i)
+                    || previous.getPlayerColumn(i) != current.getPlayerColumn(i)) {
+                repaintCell(previous.getPlayerRow(i), previous.getPlayerColumn(i));
+                repaintCell(current.getPlayerRow(i), current.getPlayerColumn(i));
             }
+        }
+    }
 
-        } else {
-            JOptionPane.showMessageDialog(this,
-                "That is not a valid location. Please pick a highlighted cell.");
+    private void repaintCell(int row, int col) {
+        // One pixel more each way covers the cell's border
+        repaint(col * cellSize, row * cellSize, cellSize + 1, cellSize + 1);
+    }
+
+    @Override
+    public void suggestionRequested(Player player, Room room) {
+        Frame owner = JOptionPane.getFrameForComponent(this);
+
+        // The suggestion is always for the room the player is standing in
+        SuggestionDialog suggestionDialog = new SuggestionDialog(
+            owner,
+            room.getName(),
+            board.getPeopleNames(),
+            board.getWeaponNames()
+        );
+
+        suggestionDialog.setVisible(true);
+
+        if (suggestionDialog.isSubmitted()) {
+            Solution suggestion = board.createSolutionFromStrings(
+                suggestionDialog.getSelectedPerson(),
+                suggestionDialog.getSelectedWeapon(),
+                suggestionDialog.getSelectedRoom()
+            );
+            if (suggestion != null) {
+                board.handleSuggestion(player, suggestion);
+            } else {
+                JOptionPane.showMessageDialog(this, "Error creating suggestion.");
+            }
         }
-    }  
+    }
 }
@@ -0,0 +1,288 @@
+/**
+ * Class: BoundedTargetEngine
+ * Computes movement targets in time linear in the roll instead of
+ * enumerating every simple path. The search advances one step at a time
+ * over bitsets of walkway cells, keyed by the last few moves taken, and
+ * never lets a move return to any of the last HISTORY cells or to the
+ * start. Walkways form a bipartite grid, so any repeated cell in a path
+ * of six steps or fewer would have to fall inside that window, which
+ * makes the results identical to the exact search for rolls up to six.
+ * Longer rolls may also reach cells that need a longer loop to get to.
+ *
+ * Cost per step is (number of history states) x 4 x (cells / 64) word
+ * operations, independent of how many paths exist. Working memory lives
+ * in a TargetScratch, so one engine can serve several threads.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BoundedTargetEngine {
+    // Number of previous moves remembered per state
+    private static final int HISTORY = 4;
+    private static final int[] DR = { -1, 1, 0, 0 };   // UP, DOWN, LEFT, RIGHT
+    private static final int[] DC = { 0, 0, -1, 1 };
+
+    // History state table, shared by every engine: state 0 is the empty history
+    private static final int[][] TRANSITIONS = buildTransitions();
+    private static final int NUM_STATES = TRANSITIONS.length;
+
+    private final BoardCell[] cells;
+    private final int[] adjOffsets;
+    private final int[] adjNeighbors;
+    private final int numColumns;
+    private final int words;
+    // Board's live occupancy bits, updated as players move
+    private final long[] occupied;
+
+    // Cells a grid move may land on in each direction (walkways that do not wrap rows)
+    private final long[][] landing = new long[4][];
+    private final long[] roomCells;
+    private final int[] doorIds;
+    private final int[] doorCenterIds;
+
+    BoundedTargetEngine(BoardCell[] cells, int[] adjOffsets, int[] adjNeighbors, int numColumns, long[] occupied) {
+        this.cells = cells;
+        this.occupied = occupied;
+        this.adjOffsets = adjOffsets;
+        this.adjNeighbors = adjNeighbors;
+        this.numColumns = numColumns;
+        this.words = Bits.words(cells.length);
+
+        for (int d = 0; d < 4; d++) {
+            landing[d] = new long[words];
+        }
+        roomCells = new long[words];
+
+        List<Integer> doors = new ArrayList<>();
+        List<Integer> doorCenters = new ArrayList<>();
+        for (int id = 0; id < cells.length; id++) {
+            BoardCell cell = cells[id];
+            int col = id % numColumns;
+            if (cell.getInitial() == 'W') {
+                Bits.set(landing[0], id);
+                Bits.set(landing[1], id);
+                if (col != numColumns - 1) {
+                    Bits.set(landing[2], id);   // arrived by moving left
+                }
+                if (col != 0) {
+                    Bits.set(landing[3], id);   // arrived by moving right
+                }
+            }
+            if (cell.isRoomCenter() || cell.isLabel() || cell.getInitial() != 'W') {
+                Bits.set(roomCells, id);
+            }
+            if (cell.isDoorway()) {
+                for (int i = adjOffsets[id]; i < adjOffsets[id + 1]; i++) {
+                    if (cells[adjNeighbors[i]].isRoomCenter()) {
+                        doors.add(id);
+                        doorCenters.add(adjNeighbors[i]);
+                    }
+                }
+            }
+        }
+        doorIds = doors.stream().mapToInt(Integer::intValue).toArray();
+        doorCenterIds = doorCenters.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /*
+     * Same contract as TargetEngine.calcTargets: all working memory comes
+     * from the scratch, and the scratch's result array is returned.
+     */
+    long[] calcTargets(int startId, int pathLength, TargetScratch scratch) {
+        scratch.ensureBoundedState(NUM_STATES);
+        long[][] open = scratch.open;
+        long[] blocked = scratch.blocked;
+        long[] union = scratch.union;
+        long[] result = scratch.result;
+        long[][] layer = scratch.layer;
+        long[][] nextLayer = scratch.nextLayer;
+        boolean[] layerUsed = scratch.layerUsed;
+        boolean[] nextUsed = scratch.nextUsed;
+
+        Arrays.fill(result, 0L);
+        clearLayer(layer, layerUsed);
+
+        for (int w = 0; w < words; w++) {
+            blocked[w] = occupied[w] & ~roomCells[w];
+        }
+        Bits.set(blocked, startId);
+        for (int d = 0; d < 4; d++) {
+            for (int w = 0; w < words; w++) {
+                open[d][w] = landing[d][w] & ~blocked[w];
+            }
+        }
+
+        // First step follows the adjacency list, so room centers can be left
+        for (int i = adjOffsets[startId]; i < adjOffsets[startId + 1]; i++) {
+            int adjId = adjNeighbors[i];
+            if (Bits.get(blocked, adjId)) {
+                continue;
+            }
+            if (pathLength == 1 || cells[adjId].isRoomCenter()) {
+                Bits.set(result, adjId);
+            } else {
+                Bits.set(layer[0], adjId);
+                layerUsed[0] = true;
+            }
+        }
+
+        for (int step = 2; step <= pathLength; step++) {
+            unionOf(layer, layerUsed, union);
+
+            // Any door on the frontier can step into its room and stop there
+            for (int i = 0; i < doorIds.length; i++) {
+                if (Bits.get(union, doorIds[i]) && doorCenterIds[i] != startId) {
+                    Bits.set(result, doorCenterIds[i]);
+                }
+            }
+
+            clearLayer(nextLayer, nextUsed);
+            for (int state = 0; state < NUM_STATES; state++) {
+                if (!layerUsed[state]) {
+                    continue;
+                }
+                for (int d = 0; d < 4; d++) {
+                    int next = TRANSITIONS[state][d];
+                    if (next >= 0 && shiftInto(layer[state], nextLayer[next], DR[d] * numColumns + DC[d], open[d])) {
+                        nextUsed[next] = true;
+                    }
+                }
+            }
+
+            long[][] swap = layer;
+            layer = nextLayer;
+            nextLayer = swap;
+            boolean[] swapUsed = layerUsed;
+            layerUsed = nextUsed;
+            nextUsed = swapUsed;
+        }
+
+        // Keep the scratch pointing at whichever buffers hold the last layer
+        scratch.layer = layer;
+        scratch.nextLayer = nextLayer;
+        scratch.layerUsed = layerUsed;
+        scratch.nextUsed = nextUsed;
+
+        if (pathLength > 1) {
+            unionOf(layer, layerUsed, union);
+            for (int w = 0; w < words; w++) {
+                result[w] |= union[w];
+            }
+        }
+        return result;
+    }
+
+    // dst |= (src moved by offset cell ids) & mask; returns whether any bit landed
+    private boolean shiftInto(long[] src, long[] dst, int offset, long[] mask) {
+        int wordShift = Math.abs(offset) >>> 6;
+        int bitShift = Math.abs(offset) & 63;
+        long any = 0;
+        for (int w = 0; w < words; w++) {
+            long moved;
+            if (offset > 0) {
+                int from = w - wordShift;
+                long low = from >= 0 ? src[from] << bitShift : 0;
+                long carry = bitShift != 0 && from - 1 >= 0 ? src[from - 1] >>> (64 - bitShift) : 0;
+                moved = low | carry;
+            } else {
+                int from = w + wordShift;
+                long high = from < words ? src[from] >>> bitShift : 0;
+                long carry = bitShift != 0 && from + 1 < words ? src[from + 1] << (64 - bitShift) : 0;
+                moved = high | carry;
+            }
+            moved &= mask[w];
+            dst[w] |= moved;
+            any |= moved;
+        }
+        return any != 0;
+    }
+
+    private void unionOf(long[][] states, boolean[] used, long[] union) {
+        Arrays.fill(union, 0L);
+        for (int state = 0; state < NUM_STATES; state++) {
+            if (used[state]) {
+                for (int w = 0; w < words; w++) {
+                    union[w] |= states[state][w];
+                }
+            }
+        }
+    }
+
+    private void clearLayer(long[][] states, boolean[] used) {
+        for (int state = 0; state < NUM_STATES; state++) {
+            if (used[state]) {
+                Arrays.fill(states[state], 0L);
+                used[state] = false;
+            }
+        }
+    }
+
+    /*
+     * Enumerates every self-avoiding sequence of up to HISTORY moves and,
+     * for each one, the state reached by one more move in each direction
+     * (-1 when that move would revisit a remembered cell).
+     */
+    private static int[][] buildTransitions() {
+        List<int[]> sequences = new ArrayList<>();
+        Map<String, Integer> index = new HashMap<>();
+        sequences.add(new int[0]);
+        index.put(Arrays.toString(new int[0]), 0);
+        for (int i = 0; i < sequences.size(); i++) {
+            int[] moves = sequences.get(i);
+            if (moves.length == HISTORY) {
+                continue;
+            }
+            for (int d = 0; d < 4; d++) {
+                int[] longer = Arrays.copyOf(moves, moves.length + 1);
+                longer[moves.length] = d;
+                if (selfAvoiding(longer)) {
+                    index.put(Arrays.toString(longer), sequences.size());
+                    sequences.add(longer);
+                }
+            }
+        }
+
+        int[][] transitions = new int[sequences.size()][4];
+        for (int i = 0; i < sequences.size(); i++) {
+            int[] moves = sequences.get(i);
+            for (int d = 0; d < 4; d++) {
+                int[] longer = Arrays.copyOf(moves, moves.length + 1);
+                longer[moves.length] = d;
+                if (!selfAvoiding(longer)) {
+                    transitions[i][d] = -1;
+                    continue;
+                }
+                int[] kept = longer.length > HISTORY
+                        ? Arrays.copyOfRange(longer, longer.length - HISTORY, longer.length)
+                        : longer;
+                transitions[i][d] = index.get(Arrays.toString(kept));
+            }
+        }
+        return transitions;
+    }
+
+    private static boolean selfAvoiding(int[] moves) {
+        int[] rows = new int[moves.length + 1];
+        int[] cols = new int[moves.length + 1];
+        for (int i = 0; i < moves.length; i++) {
+            rows[i + 1] = rows[i] + DR[moves[i]];
+            cols[i + 1] = cols[i] + DC[moves[i]];
+            for (int j = 0; j <= i; j++) {
+                if (rows[j] == rows[i + 1] && cols[j] == cols[i + 1]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
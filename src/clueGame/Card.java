@@ -1,6 +1,8 @@
 /**
  * Class: Card
  * Represents a Clue game card, which can be a person, room, or weapon.
+ * Cards made by a CardRegistry carry a dense id and are the only instance
+ * of their name in that game, so comparing them is a reference check.
  * 
  * Authors: Shaurya Saxena, Logan Matthews
  * Date: August 1, 2025
@@ -10,17 +12,36 @@
 
 package clueGame;
 
-import java.util.Objects;
-
 public class Card {
 	
 	
     private String name;
     private CardType type;
+    // Hash of name and type, worked out once since cards are hashed constantly
+    private final int hash;
+    // Set when a registry adopts the card; -1 for free-standing cards
+    private int id = -1;
+    private CardRegistry registry;
 
     public Card(String name, CardType type) {
         this.name = name;
         this.type = type;
+        this.hash = 31 * name.hashCode() + type.ordinal();
+    }
+
+    void register(CardRegistry registry, int id) {
+        this.registry = registry;
+        this.id = id;
+    }
+
+    // Dense index within the game's CardRegistry, or -1 if not registered
+    public int getId() {
+        return id;
+    }
+
+    // This card's bit in a hand or suggestion mask, or 0 if not registered
+    public long getMask() {
+        return id < 0 ? 0L : 1L << id;
     }
 
     public String getName() {
@@ -36,12 +57,14 @@ public class Card {
         if (this == obj) return true;
         if (!(obj instanceof Card)) return false;
         Card other = (Card) obj;
-        return this.name.equals(other.name) && this.type == other.type;
+        // A registry holds one card per name and type
+        if (registry != null && registry == other.registry) return false;
+        return hash == other.hash && this.type == other.type && this.name.equals(other.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, type);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,87 @@
+/**
+ * Class: CardRegistry
+ * Holds every card of one game, numbered 0..size()-1 in the order the
+ * setup file lists them. Each name and type is registered once, so the
+ * rest of the game can compare cards by reference and index per-card
+ * tables by id instead of hashing names.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class CardRegistry {
+    // Hands and suggestions are masks over card ids held in one long
+    public static final int MAX_CARDS = 64;
+
+    private final List<Card> cards = new ArrayList<>();
+    private final Map<CardType, List<Card>> cardsByType = new EnumMap<>(CardType.class);
+    // Lower-cased names, so lookups from dialogs ignore case like they always have
+    private final Map<CardType, Map<String, Card>> cardsByName = new EnumMap<>(CardType.class);
+
+    public CardRegistry() {
+        for (CardType type : CardType.values()) {
+            cardsByType.put(type, new ArrayList<>());
+            cardsByName.put(type, new HashMap<>());
+        }
+    }
+
+    /*
+     * Returns the card with this name and type, creating and numbering it
+     * the first time it is seen.
+     */
+    public Card register(String name, CardType type) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Card card = cardsByName.get(type).get(key);
+        if (card == null) {
+            if (cards.size() == MAX_CARDS) {
+                throw new IllegalStateException("A game can have at most " + MAX_CARDS + " cards");
+            }
+            card = new Card(name, type);
+            card.register(this, cards.size());
+            cards.add(card);
+            cardsByType.get(type).add(card);
+            cardsByName.get(type).put(key, card);
+        }
+        return card;
+    }
+
+    public Card get(int id) {
+        return cards.get(id);
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    // The registered card with this name and type, or null
+    public Card find(String name, CardType type) {
+        return name == null ? null : cardsByName.get(type).get(name.toLowerCase(Locale.ROOT));
+    }
+
+    // The registered card equal to the given one, which may come from elsewhere
+    public Card canonical(Card card) {
+        if (card == null || (card.getId() >= 0 && card.getId() < cards.size() && get(card.getId()) == card)) {
+            return card;
+        }
+        return find(card.getName(), card.getType());
+    }
+
+    public List<Card> getCards() {
+        return Collections.unmodifiableList(cards);
+    }
+
+    public List<Card> getCards(CardType type) {
+        return Collections.unmodifiableList(cardsByType.get(type));
+    }
+}
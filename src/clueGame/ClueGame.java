@@ -24,8 +24,6 @@ public class ClueGame {
 
     public static void main(String[] args) {
         Board board = Board.getInstance();
-        BoardGUI gui = new BoardGUI(board);
-        board.setBoardGUI(gui);
         board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
         board.initialize();
 
@@ -43,8 +41,10 @@ public class ClueGame {
         GameControlSideBar sideBar = new GameControlSideBar();
 
         // Control panel at the bottom
-        GameControlPanel controlPanel = new GameControlPanel();
+        GameControlPanel controlPanel = new GameControlPanel(board);
         board.setControlPanel(controlPanel);
+        // Computer players decide their turns without blocking the window
+        board.setTurnRunner(new ComputerTurnRunner(board));
         board.handleNextTurn();
 
         // Example sample data for sidebar
@@ -87,7 +87,7 @@ public class ClueGame {
             inHandWeapons, seenWeaponsBy);
 
         // Add components to the frame
-        frame.add(boardGUI, BorderLayout.CENTER);
+        frame.add(new JScrollPane(boardGUI), BorderLayout.CENTER);
         frame.add(sideBar, BorderLayout.EAST);
         frame.add(controlPanel, BorderLayout.SOUTH);
 
@@ -0,0 +1,43 @@
+/**
+ * Class: ComputerMove
+ * What a computer player decided to do with its roll: accuse, move to a
+ * target, or stay put when boxed in. Deciding and playing a move are
+ * separate steps in the GameEngine, so the decision can be made on a
+ * worker thread and handed back to the thread that runs the game.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+final class ComputerMove {
+    static final ComputerMove STAY = new ComputerMove(null, null);
+
+    private final Solution accusation;
+    private final BoardCell target;
+
+    private ComputerMove(Solution accusation, BoardCell target) {
+        this.accusation = accusation;
+        this.target = target;
+    }
+
+    static ComputerMove accuse(Solution accusation) {
+        return new ComputerMove(accusation, null);
+    }
+
+    static ComputerMove moveTo(BoardCell target) {
+        return new ComputerMove(null, target);
+    }
+
+    // The accusation to make, or null to move instead
+    Solution getAccusation() {
+        return accusation;
+    }
+
+    // Where to move, or null to stay put
+    BoardCell getTarget() {
+        return target;
+    }
+}
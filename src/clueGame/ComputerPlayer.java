@@ -1,6 +1,10 @@
 /**
  * Class: ComputerPlayer
  * Represents an AI-controlled player in the Clue game, with logic for automated suggestions.
+ * It watches every suggestion and accusation, deduces where the cards are
+ * with a KnowledgeMatrix, and accuses once the solution is certain.
+ * Probabilities come from SamplingSolver, or from ExactSolver once few
+ * enough answers remain to count every deal.
  * 
  * Authors: Shaurya Saxena, Logan Matthews
  * Date: August 1, 2025
@@ -10,15 +14,28 @@
 package clueGame;
 
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.Set;
 import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
 
 
 public class ComputerPlayer extends Player {
 	private List<Card> seenCards = new ArrayList<>();
 	private boolean readyToAccuse = false;
 	private Solution storedAccusation = null;
+	// Deductions about every card, rebuilt if our board or hand changes underneath it
+	private KnowledgeMatrix knowledge;
+	private Board knowledgeBoard;
+	private long knowledgeHand;
+	// Estimates card probabilities from deals that fit the knowledge
+	private SamplingSolver solver;
+	// Counts them exactly once the space is small
+	private ExactSolver exactSolver;
+	private double accuseThreshold = DEFAULT_ACCUSE_THRESHOLD;
+	private boolean planningSuggestions = true;
+	// Chance the likeliest answer must reach before accusing without certainty
+	public static final double DEFAULT_ACCUSE_THRESHOLD = 1.0;
 	
 
 
@@ -29,6 +46,12 @@ public class ComputerPlayer extends Player {
     public void addSeenCard(Card c) {
         if (c != null && !seenCards.contains(c)) {
             seenCards.add(c);
+            KnowledgeMatrix k = getKnowledge();
+            if (k != null && c.getId() >= 0) {
+                k.recordNotSolution(c.getId());
+                solver.update();
+                checkSolved();
+            }
         }
     }
 
@@ -38,6 +61,161 @@ public class ComputerPlayer extends Player {
     
     public void clearSeenCards() {
         seenCards.clear();
+        knowledge = null;
+        solver = null;
+        exactSolver = null;
+    }
+
+    /*
+     * This player's deductions, or null while not seated on a board. The
+     * matrix starts from our own hand and the public hand sizes.
+     */
+    public KnowledgeMatrix getKnowledge() {
+        Board board = getBoard();
+        if (board == null || getSeat() < 0) {
+            return null;
+        }
+        if (knowledge == null || knowledgeBoard != board || knowledgeHand != getHandMask()) {
+            List<Player> players = board.getPlayers();
+            int[] handSizes = new int[players.size()];
+            for (int seat = 0; seat < handSizes.length; seat++) {
+                handSizes[seat] = players.get(seat).getHand().size();
+            }
+            knowledge = new KnowledgeMatrix(board.getCardRegistry(), handSizes);
+            knowledgeBoard = board;
+            knowledgeHand = getHandMask();
+            knowledge.recordHand(getSeat(), knowledgeHand);
+            for (Card c : seenCards) {
+                if (c.getId() >= 0) {
+                    knowledge.recordNotSolution(c.getId());
+                }
+            }
+            solver = new SamplingSolver(knowledge, splitRandom());
+            exactSolver = new ExactSolver(knowledge);
+        }
+        return knowledge;
+    }
+
+    // Sampler over this player's knowledge, or null while not seated on a board
+    public SamplingSolver getSolver() {
+        return getKnowledge() == null ? null : solver;
+    }
+
+    public ExactSolver getExactSolver() {
+        return getKnowledge() == null ? null : exactSolver;
+    }
+
+    // Exact counts when the space is small enough, otherwise a topped-up sample pool
+    private SolutionEstimator getEstimator() {
+        if (getKnowledge() == null) {
+            return null;
+        }
+        if (exactSolver.isApplicable()) {
+            return exactSolver;
+        }
+        solver.refill();
+        return solver;
+    }
+
+    // Whether suggestions are chosen by expected information rather than at random
+    public void setPlanningSuggestions(boolean planningSuggestions) {
+        this.planningSuggestions = planningSuggestions;
+    }
+
+    /*
+     * How sure the likeliest answer must be before accusing on a guess.
+     * At 1.0 (the default) computers only accuse when deduction is certain.
+     */
+    public void setAccuseThreshold(double accuseThreshold) {
+        this.accuseThreshold = accuseThreshold;
+    }
+
+    /*
+     * The accusation to make at the start of this turn, or null to play on.
+     * Uses the deduced answer if there is one, or the only triple left when
+     * every deal is counted, otherwise the likeliest answer once it clears
+     * the accuse threshold.
+     */
+    public Solution chooseAccusation() {
+        if (readyToAccuse) {
+            Solution accusation = storedAccusation;
+            readyToAccuse = false;
+            storedAccusation = null;
+            return accusation;
+        }
+        if (getKnowledge() == null) {
+            return null;
+        }
+        long best;
+        if (exactSolver.isApplicable() && exactSolver.isCertain()) {
+            best = exactSolver.getMostLikelySolution();
+        } else if (accuseThreshold < 1.0) {
+            SolutionEstimator estimator = getEstimator();
+            best = estimator.getMostLikelySolution();
+            if (best == 0 || estimator.getProbability(best) < accuseThreshold) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        Board board = getBoard();
+        return new Solution(cardIn(board, best, CardType.PERSON), cardIn(board, best, CardType.ROOM),
+                cardIn(board, best, CardType.WEAPON));
+    }
+
+    /*
+     * Called for every suggestion in the game. shownCard is the card this
+     * player was shown, or null if it was shown to someone else or nobody.
+     */
+    public void observeSuggestion(Player suggester, Solution suggestion, Player disprover, Card shownCard) {
+        if (shownCard != null && !seenCards.contains(shownCard)) {
+            seenCards.add(shownCard);
+        }
+        KnowledgeMatrix k = getKnowledge();
+        if (k == null || !suggestion.isRegistered() || suggester.getSeat() < 0) {
+            return;
+        }
+        int disproverSeat = disprover == null ? -1 : disprover.getSeat();
+        int shownId = shownCard == null ? -1 : shownCard.getId();
+        k.recordSuggestion(suggester.getSeat(), suggestion.getCardMask(), disproverSeat, shownId);
+        solver.update();
+        checkSolved();
+    }
+
+    public void observeAccusation(Player accuser, Solution accusation, boolean correct) {
+        KnowledgeMatrix k = getKnowledge();
+        if (!correct && k != null && accusation != null && accusation.isRegistered()) {
+            k.recordWrongAccusation(accusation.getCardMask());
+            solver.update();
+            checkSolved();
+        }
+    }
+
+    // Once the envelope is pinned down, accuse at the start of our next turn
+    private void checkSolved() {
+        if (readyToAccuse || !knowledge.isSolved()) {
+            return;
+        }
+        Board board = getBoard();
+        long solution = knowledge.getSolutionMask();
+        Card person = cardIn(board, solution, CardType.PERSON);
+        Card room = cardIn(board, solution, CardType.ROOM);
+        Card weapon = cardIn(board, solution, CardType.WEAPON);
+        storedAccusation = new Solution(person, room, weapon);
+        readyToAccuse = true;
+    }
+
+    private Card cardIn(Board board, long mask, CardType type) {
+        return board.getCard(Long.numberOfTrailingZeros(mask & knowledge.getTypeMask(type)));
+    }
+
+    // Whether a card could still be in the envelope, as far as this player knows
+    private boolean isUnseen(Card c) {
+        KnowledgeMatrix k = getKnowledge();
+        if (k != null && k.isConsistent() && c.getId() >= 0) {
+            return k.isSolutionCandidate(c.getId());
+        }
+        return !seenCards.contains(c) && !getHand().contains(c);
     }
 
     public Solution createSuggestion(Board board) {
@@ -47,73 +225,124 @@ public class ComputerPlayer extends Player {
         Room currentRoom = board.getRoom(roomInitial);
 
         // The room card to suggest
-        Card roomCard = null;
-        for (Card c : board.getDeck()) {
-            if (c.getName().equals(currentRoom.getName()) && c.getType() == CardType.ROOM) {
-                roomCard = c;
-                break;
-            }
+        Card roomCard = board.getCardRegistry().find(currentRoom.getName(), CardType.ROOM);
+
+        // Ask whatever is expected to narrow the answer down the most
+        Solution planned = planSuggestion(roomCard);
+        if (planned != null) {
+            return planned;
         }
 
-        // Get unseen persons and weapons
+        // Get persons and weapons that could still be in the envelope
         List<Card> unseenPersons = new ArrayList<>();
         List<Card> unseenWeapons = new ArrayList<>();
 
-        for (Card c : board.getDeck()) {
-            if (!seenCards.contains(c)) {
+        for (Card c : board.getAllCards()) {
+            if (isUnseen(c)) {
                 if (c.getType() == CardType.PERSON) unseenPersons.add(c);
                 if (c.getType() == CardType.WEAPON) unseenWeapons.add(c);
             }
         }
 
         if (unseenPersons.isEmpty()) {
-            for (Card c : board.getDeck()) {
-                if (c.getType() == CardType.PERSON) unseenPersons.add(c);
-            }
+            unseenPersons.addAll(board.getCardRegistry().getCards(CardType.PERSON));
         }
         if (unseenWeapons.isEmpty()) {
-            for (Card c : board.getDeck()) {
-                if (c.getType() == CardType.WEAPON) unseenWeapons.add(c);
-            }
+            unseenWeapons.addAll(board.getCardRegistry().getCards(CardType.WEAPON));
         }
 
-        // Randomly pick one from each list
-        Random rand = new Random();
-        Card personCard = unseenPersons.get(rand.nextInt(unseenPersons.size()));
-        Card weaponCard = unseenWeapons.get(rand.nextInt(unseenWeapons.size()));
+        // Pick one from each list, favouring the likelier answers
+        SolutionEstimator estimator = getEstimator();
+        Card personCard = pickLikely(unseenPersons, estimator);
+        Card weaponCard = pickLikely(unseenWeapons, estimator);
 
         return new Solution(personCard, roomCard, weaponCard);
     }
+
+    // The suggestion with the most expected information, or null without samples to score it on
+    private Solution planSuggestion(Card roomCard) {
+        KnowledgeMatrix k = getKnowledge();
+        if (!planningSuggestions || k == null || !k.isConsistent() || roomCard == null || roomCard.getId() < 0) {
+            return null;
+        }
+        solver.refill();
+        SuggestionPlanner planner = new SuggestionPlanner(k, getSeat(), solver.getSamples());
+        long best = planner.bestSuggestion(roomCard.getMask(), getRandom());
+        if (best == 0) {
+            return null;
+        }
+        Board board = getBoard();
+        return new Solution(cardIn(board, best, CardType.PERSON), roomCard, cardIn(board, best, CardType.WEAPON));
+    }
+
+    // Random card weighted by its estimated chance of being the answer; uniform without estimates
+    private Card pickLikely(List<Card> options, SolutionEstimator s) {
+        RandomGenerator rand = getRandom();
+        if (s == null) {
+            return options.get(rand.nextInt(options.size()));
+        }
+        double total = 0.0;
+        for (Card c : options) {
+            total += c.getId() >= 0 ? s.getProbability(c.getId()) : 0.0;
+        }
+        if (total <= 0.0) {
+            return options.get(rand.nextInt(options.size()));
+        }
+        double pick = rand.nextDouble() * total;
+        for (Card c : options) {
+            pick -= c.getId() >= 0 ? s.getProbability(c.getId()) : 0.0;
+            if (pick < 0) {
+                return c;
+            }
+        }
+        return options.get(options.size() - 1);
+    }
     
+    /*
+     * Heads for the rooms whose card could still be the answer: an unseen
+     * room reachable this turn is entered, otherwise the target closest to
+     * one by the board's distance fields is taken. Ties are broken at random.
+     */
     @Override
     public BoardCell selectTarget(Set<BoardCell> targets) {
-        Random rand = new Random();
-        List<BoardCell> unseenRooms = new ArrayList<>();
-
-        for (BoardCell cell : targets) {
-            Room room = Board.getInstance().getRoom(cell.getInitial());
-            if (room != null && room.getName() != null) {
-                // check if we've seen the corresponding room card
-                boolean seen = false;
-                for (Card seenCard : seenCards) {
-                    if (seenCard.getType() == CardType.ROOM && seenCard.getName().equals(room.getName())) {
-                        seen = true;
-                        break;
-                    }
-                }
-                if (!seen) {
-                    unseenRooms.add(cell);
-                }
+        RandomGenerator rand = getRandom();
+        List<BoardCell> targetList = new ArrayList<>(targets);
+        // Rooms belong to this player's game; a player not yet placed uses the cell's board
+        Board board = getBoard() != null ? getBoard() : targetList.get(0).getBoard();
+
+        List<Character> unseenRooms = new ArrayList<>();
+        for (Map.Entry<Character, Room> entry : board.getRoomMap().entrySet()) {
+            Room room = entry.getValue();
+            if (room.getCenterCell() == null) {
+                continue;
+            }
+            Card roomCard = board.getCardRegistry().find(room.getName(), CardType.ROOM);
+            if (roomCard != null && isUnseen(roomCard)) {
+                unseenRooms.add(entry.getKey());
             }
         }
 
-        if (!unseenRooms.isEmpty()) {
-            return unseenRooms.get(rand.nextInt(unseenRooms.size()));
+        List<BoardCell> closest = new ArrayList<>();
+        int closestDistance = Integer.MAX_VALUE;
+        for (BoardCell cell : targetList) {
+            int distance = Integer.MAX_VALUE;
+            for (char initial : unseenRooms) {
+                distance = Math.min(distance, board.getRoomDistance(initial, cell));
+            }
+            if (distance < closestDistance) {
+                closest.clear();
+                closestDistance = distance;
+            }
+            if (distance == closestDistance && distance != Integer.MAX_VALUE) {
+                closest.add(cell);
+            }
         }
 
-        // No unseen room? Pick randomly
-        List<BoardCell> targetList = new ArrayList<>(targets);
-        return targetList.get(rand.nextInt(targetList.size()));
+        // No unseen room within reach? Pick randomly
+        if (closest.isEmpty()) {
+            return targetList.get(rand.nextInt(targetList.size()));
+        }
+        return closest.get(rand.nextInt(closest.size()));
     }
     
     public void setReadyToAccuse(boolean ready) {
@@ -0,0 +1,201 @@
+/**
+ * Class: ComputerTurnRunner
+ * Plays turns for the Swing game without letting computer players freeze
+ * the window. Everything that changes the game still happens on the Event
+ * Dispatch Thread, so listeners may update Swing components directly; only
+ * the computer's decisions, where to move and what to suggest, are worked
+ * out on a worker thread while the window keeps painting.
+ *
+ * Each decision has a deadline. When it passes, or cancel is called, the
+ * worker is interrupted; the solvers behind a computer's choices check for
+ * that and stop with what they have, and the turn goes on with whatever
+ * the player returns, or a random move or suggestion if it returns
+ * nothing. A decision that throws, errors included, is reported to the
+ * engine's listeners and replaced the same way. Either way the game only
+ * moves on once the worker has finished with the board, so the two
+ * threads never touch it at once.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+public class ComputerTurnRunner {
+    public static final int DEFAULT_DEADLINE_MILLIS = 5000;
+
+    private final Board board;
+    private final GameEngine engine;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "computer-turn");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer deadline;
+    // The decision being worked out, or null; only used on the Event Dispatch Thread
+    private Decision<?> pending;
+
+    public ComputerTurnRunner(Board board) {
+        this.board = board;
+        this.engine = board.getEngine();
+        deadline = new Timer(DEFAULT_DEADLINE_MILLIS, e -> cancel());
+        deadline.setRepeats(false);
+    }
+
+    public void setDeadlineMillis(int millis) {
+        deadline.setInitialDelay(millis);
+    }
+
+    /*
+     * Starts the next turn, moving to the Event Dispatch Thread first if
+     * called from elsewhere. Ignored while a computer is still thinking.
+     */
+    public void nextTurn() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(this::nextTurn);
+            return;
+        }
+        if (pending != null) {
+            return;
+        }
+        Player player = engine.startTurn();
+        if (!(player instanceof ComputerPlayer)) {
+            return;
+        }
+        ComputerPlayer cpu = (ComputerPlayer) player;
+        think(cpu, () -> engine.decideComputerMove(cpu), () -> randomMove(cpu), move -> {
+            if (engine.applyComputerMove(cpu, move)) {
+                think(cpu, () -> cpu.createSuggestion(board), () -> randomSuggestion(cpu),
+                        suggestion -> engine.handleSuggestion(cpu, suggestion));
+            }
+        });
+    }
+
+    // True from the start of a computer's turn until its last decision is played
+    public boolean isThinking() {
+        return pending != null;
+    }
+
+    // Stops the current decision early; the turn still finishes
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel();
+        }
+    }
+
+    public void shutdown() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    private <T> void think(ComputerPlayer cpu, Callable<T> decide, Supplier<T> fallback, Consumer<T> apply) {
+        Decision<T> decision = new Decision<>(cpu, decide, fallback, apply);
+        pending = decision;
+        deadline.restart();
+        worker.execute(decision);
+    }
+
+    // Back on the Event Dispatch Thread once the worker is done with the decision
+    private <T> void finish(Decision<T> decision, T result, Throwable failure) {
+        if (pending != decision) {
+            return;
+        }
+        deadline.stop();
+        pending = null;
+        if (failure != null) {
+            engine.reportComputerFailure(decision.cpu, failure);
+        }
+        decision.apply.accept(result != null ? result : decision.fallback.get());
+    }
+
+    // Any target for this roll, for a computer that ran out of time
+    private ComputerMove randomMove(ComputerPlayer cpu) {
+        List<BoardCell> targets = new ArrayList<>(board.findTargets(cpu.getRow(), cpu.getColumn(), engine.getLastRoll()));
+        if (targets.isEmpty()) {
+            return ComputerMove.STAY;
+        }
+        return ComputerMove.moveTo(targets.get(board.getRandom().nextInt(targets.size())));
+    }
+
+    // Any person and weapon in the room the computer stands in
+    private Solution randomSuggestion(ComputerPlayer cpu) {
+        RandomGenerator rand = board.getRandom();
+        CardRegistry registry = board.getCardRegistry();
+        Room room = board.getRoom(board.getCell(cpu.getRow(), cpu.getColumn()));
+        Card roomCard = registry.find(room.getName(), CardType.ROOM);
+        List<Card> persons = registry.getCards(CardType.PERSON);
+        List<Card> weapons = registry.getCards(CardType.WEAPON);
+        return new Solution(persons.get(rand.nextInt(persons.size())), roomCard,
+                weapons.get(rand.nextInt(weapons.size())));
+    }
+
+    /*
+     * One decision run on the worker. Its result, or null if it failed or
+     * was cancelled before it began, is always posted back along with any
+     * failure, so the turn carries on however the decision ended.
+     */
+    private final class Decision<T> implements Runnable {
+        private final ComputerPlayer cpu;
+        private final Callable<T> decide;
+        private final Supplier<T> fallback;
+        private final Consumer<T> apply;
+        // Guarded by this: set once cancelled, and the worker while it runs
+        private boolean cancelled;
+        private Thread thread;
+
+        Decision(ComputerPlayer cpu, Callable<T> decide, Supplier<T> fallback, Consumer<T> apply) {
+            this.cpu = cpu;
+            this.decide = decide;
+            this.fallback = fallback;
+            this.apply = apply;
+        }
+
+        @Override
+        public void run() {
+            T result = null;
+            Throwable failure = null;
+            boolean started;
+            synchronized (this) {
+                started = !cancelled;
+                thread = started ? Thread.currentThread() : null;
+            }
+            if (started) {
+                try {
+                    result = decide.call();
+                } catch (Throwable e) {
+                    // Errors too, such as a solver overflowing the stack, or the turn would never finish
+                    failure = e;
+                } finally {
+                    synchronized (this) {
+                        thread = null;
+                        // Don't let a late cancel interrupt the next decision
+                        Thread.interrupted();
+                    }
+                }
+            }
+            T decided = result;
+            Throwable failed = failure;
+            SwingUtilities.invokeLater(() -> finish(this, decided, failed));
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
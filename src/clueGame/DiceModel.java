@@ -0,0 +1,55 @@
+/**
+ * Class: DiceModel
+ * Describes the dice rolled for movement: a number of dice, each with the
+ * same number of sides. The standard game rolls a single six-sided die.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.random.RandomGenerator;
+
+public class DiceModel {
+    private final int count;
+    private final int sides;
+
+    public DiceModel(int count, int sides) {
+        if (count < 1 || sides < 1) {
+            throw new IllegalArgumentException("Dice need at least one die with one side: " + count + "d" + sides);
+        }
+        this.count = count;
+        this.sides = sides;
+    }
+
+    public static DiceModel standard() {
+        return new DiceModel(1, 6);
+    }
+
+    public int roll(RandomGenerator rand) {
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            total += rand.nextInt(sides) + 1;
+        }
+        return total;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    public int getMaxRoll() {
+        return count * sides;
+    }
+
+    @Override
+    public String toString() {
+        return count + "d" + sides;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Class: DistanceFields
+ * How many steps every cell is from every room, worked out once per
+ * layout. Each room gets one short[] indexed by cell id, filled by a
+ * breadth-first search outward from the room's center along the board's
+ * CSR adjacency (run backwards, so the value is the distance from the cell
+ * to the room). Doors are one step from their room, secret passages count
+ * as one step, and other rooms may be passed through because a player can
+ * enter a room on one turn and leave on the next. Occupancy is ignored.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+final class DistanceFields {
+    // Cells that cannot reach the room, and the cap for very long walks
+    static final short UNREACHABLE = Short.MAX_VALUE;
+    static final short MAX_DISTANCE = Short.MAX_VALUE - 1;
+
+    private final Map<Character, short[]> fields = new HashMap<>();
+
+    DistanceFields(BoardCell[] cells, int[] adjOffsets, int[] adjNeighbors, int numColumns, Map<Character, Room> rooms) {
+        // Reverse the adjacency once: cell v is a predecessor of u when v lists u
+        int[] reverseOffsets = new int[cells.length + 1];
+        for (int neighbor : adjNeighbors) {
+            reverseOffsets[neighbor + 1]++;
+        }
+        for (int id = 0; id < cells.length; id++) {
+            reverseOffsets[id + 1] += reverseOffsets[id];
+        }
+        int[] reverseNeighbors = new int[adjNeighbors.length];
+        int[] next = Arrays.copyOf(reverseOffsets, cells.length);
+        for (int id = 0; id < cells.length; id++) {
+            for (int i = adjOffsets[id]; i < adjOffsets[id + 1]; i++) {
+                reverseNeighbors[next[adjNeighbors[i]]++] = id;
+            }
+        }
+
+        int[] queue = new int[cells.length];
+        for (Map.Entry<Character, Room> entry : rooms.entrySet()) {
+            BoardCell center = entry.getValue().getCenterCell();
+            if (center == null) {
+                continue;
+            }
+            int source = center.getRow() * numColumns + center.getColumn();
+            fields.put(entry.getKey(), search(source, reverseOffsets, reverseNeighbors, queue));
+        }
+    }
+
+    private static short[] search(int source, int[] offsets, int[] neighbors, int[] queue) {
+        short[] distance = new short[offsets.length - 1];
+        Arrays.fill(distance, UNREACHABLE);
+        distance[source] = 0;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int cell = queue[head++];
+            short step = (short) Math.min(distance[cell] + 1, MAX_DISTANCE);
+            for (int i = offsets[cell]; i < offsets[cell + 1]; i++) {
+                int from = neighbors[i];
+                if (distance[from] == UNREACHABLE) {
+                    distance[from] = step;
+                    queue[tail++] = from;
+                }
+            }
+        }
+        return distance;
+    }
+
+    // Steps from the cell to the room, UNREACHABLE if there is no way in
+    int distance(char roomInitial, int cellId) {
+        short[] field = fields.get(roomInitial);
+        return field == null ? UNREACHABLE : field[cellId];
+    }
+}
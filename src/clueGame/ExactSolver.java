@@ -0,0 +1,371 @@
+/**
+ * Class: ExactSolver
+ * Counts every deal that fits a player's KnowledgeMatrix, so solution
+ * probabilities are exact rather than sampled. Once a few suggestions
+ * have been resolved the space is small enough to count in milliseconds,
+ * and the count also tells when an accusation is certain even where the
+ * matrix's rules alone have not pinned the envelope down.
+ *
+ * For each envelope triple still possible, the unknown cards are handed
+ * to seats one at a time, in the same order for every triple. The count
+ * for the cards still to deal depends only on each seat's remaining room,
+ * which disprover constraints are already met and which envelope cards
+ * are still ahead, so those counts are memoised and shared between
+ * triples. Envelope candidates are dealt first, so every triple meets the
+ * same states once they are behind it. Branches are cut as soon as a seat
+ * can no longer be filled or a constraint can no longer be met.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ExactSolver implements SolutionEstimator {
+    // Envelope triples still possible at or below which counting is switched on
+    public static final long DEFAULT_TRIPLE_LIMIT = 32;
+    // Each seat's remaining room is packed into this many bits of a memo key
+    private static final int CAPACITY_BITS = 4;
+    private static final long CAPACITY_MASK = (1L << CAPACITY_BITS) - 1;
+    private static final int MAX_SEATS = 8;
+    private static final int MAX_CONSTRAINTS = 32;
+
+    private final KnowledgeMatrix knowledge;
+    private long tripleLimit = DEFAULT_TRIPLE_LIMIT;
+
+    // Results of the last solve, valid while the knowledge revision matches
+    private long solvedRevision = -1;
+    private final List<Long> triples = new ArrayList<>();
+    private final List<Long> tripleDeals = new ArrayList<>();
+    private final long[] cardDeals = new long[CardRegistry.MAX_CARDS];
+    private long totalDeals = 0;
+
+    // Per-solve working state
+    private int seats;
+    private long[] cards;
+    private long[] remaining;
+    private int[][] satisfies;
+    private int[] constraintSeats;
+    private long[] constraintMasks;
+    private int allSatisfied;
+    private Map<Long, Memo[]> memos;
+
+    public ExactSolver(KnowledgeMatrix knowledge) {
+        this.knowledge = knowledge;
+    }
+
+    public void setTripleLimit(long tripleLimit) {
+        this.tripleLimit = tripleLimit;
+    }
+
+    // Whether the remaining space is small enough, and shaped right, to count
+    public boolean isApplicable() {
+        if (!knowledge.isConsistent() || knowledge.getSeats() > MAX_SEATS
+                || knowledge.getConstraintCount() > MAX_CONSTRAINTS) {
+            return false;
+        }
+        for (int seat = 0; seat < knowledge.getSeats(); seat++) {
+            if (knowledge.getHandSize(seat) >= 1 << CAPACITY_BITS) {
+                return false;
+            }
+        }
+        return knowledge.countCandidateTriples() <= tripleLimit;
+    }
+
+    /*
+     * Counts the deals for every possible triple, unless nothing changed
+     * since last time. If the calling thread is interrupted the count is
+     * abandoned and no deals are reported, so nothing looks certain; the
+     * next call counts again.
+     */
+    public void solve() {
+        if (solvedRevision == knowledge.getRevision()) {
+            return;
+        }
+        clearCounts();
+        if (isApplicable() && !countAll()) {
+            clearCounts();
+            return;
+        }
+        solvedRevision = knowledge.getRevision();
+    }
+
+    private void clearCounts() {
+        triples.clear();
+        tripleDeals.clear();
+        Arrays.fill(cardDeals, 0L);
+        totalDeals = 0;
+    }
+
+    // True once exactly one triple has any deal left
+    public boolean isCertain() {
+        solve();
+        return triples.size() == 1;
+    }
+
+    public long getTotalDeals() {
+        solve();
+        return totalDeals;
+    }
+
+    // Number of envelope triples with at least one deal
+    public int getPossibleTriples() {
+        solve();
+        return triples.size();
+    }
+
+    @Override
+    public double getProbability(int cardId) {
+        solve();
+        return totalDeals == 0 ? 0.0 : (double) cardDeals[cardId] / totalDeals;
+    }
+
+    @Override
+    public double getProbability(long solution) {
+        solve();
+        int i = triples.indexOf(solution);
+        return i < 0 || totalDeals == 0 ? 0.0 : (double) tripleDeals.get(i) / totalDeals;
+    }
+
+    @Override
+    public long getMostLikelySolution() {
+        solve();
+        long best = 0L;
+        long bestDeals = 0;
+        for (int i = 0; i < triples.size(); i++) {
+            if (tripleDeals.get(i) > bestDeals) {
+                bestDeals = tripleDeals.get(i);
+                best = triples.get(i);
+            }
+        }
+        return best;
+    }
+
+    // Returns false if the thread was interrupted before every triple was counted
+    private boolean countAll() {
+        KnowledgeMatrix k = knowledge;
+        seats = k.getSeats();
+        long pinned = 0L;
+        for (int row = 0; row <= seats; row++) {
+            pinned |= k.getHas(row);
+        }
+        long candidates = 0L;
+        for (CardType type : CardType.values()) {
+            candidates |= k.getSolutionCandidates(type);
+        }
+        long open = candidates & ~pinned;
+        long rest = k.getAllCards() & ~pinned & ~open;
+
+        // Envelope candidates come first, so every triple shares the rest
+        int n = Long.bitCount(open) + Long.bitCount(rest);
+        cards = new long[n];
+        remaining = new long[n + 1];
+        int i = 0;
+        for (long c = open; c != 0; c &= c - 1) {
+            cards[i++] = Long.lowestOneBit(c);
+        }
+        for (long c = rest; c != 0; c &= c - 1) {
+            cards[i++] = Long.lowestOneBit(c);
+        }
+        for (int j = n - 1; j >= 0; j--) {
+            remaining[j] = remaining[j + 1] | cards[j];
+        }
+
+        int constraints = k.getConstraintCount();
+        constraintSeats = new int[constraints];
+        constraintMasks = new long[constraints];
+        allSatisfied = 0;
+        for (int j = 0; j < constraints; j++) {
+            constraintSeats[j] = k.getConstraintSeat(j);
+            constraintMasks[j] = k.getConstraintMask(j);
+            allSatisfied |= 1 << j;
+        }
+        satisfies = new int[n][seats];
+        for (int j = 0; j < n; j++) {
+            for (int c = 0; c < constraints; c++) {
+                if ((constraintMasks[c] & cards[j]) != 0) {
+                    satisfies[j][constraintSeats[c]] |= 1 << c;
+                }
+            }
+        }
+
+        long startCaps = 0L;
+        for (int seat = 0; seat < seats; seat++) {
+            long room = k.getHandSize(seat) - Long.bitCount(k.getHas(seat));
+            startCaps |= room << (CAPACITY_BITS * seat);
+        }
+        int startSatisfied = 0;
+        for (int j = 0; j < constraints; j++) {
+            if ((k.getHas(constraintSeats[j]) & constraintMasks[j]) != 0) {
+                startSatisfied |= 1 << j;
+            }
+        }
+
+        memos = new HashMap<>();
+        long persons = k.getSolutionCandidates(CardType.PERSON);
+        long rooms = k.getSolutionCandidates(CardType.ROOM);
+        long weapons = k.getSolutionCandidates(CardType.WEAPON);
+        for (long p = persons; p != 0; p &= p - 1) {
+            for (long r = rooms; r != 0; r &= r - 1) {
+                for (long w = weapons; w != 0; w &= w - 1) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        memos = null;
+                        return false;
+                    }
+                    long triple = Long.lowestOneBit(p) | Long.lowestOneBit(r) | Long.lowestOneBit(w);
+                    if (isWrongAccusation(triple)) {
+                        continue;
+                    }
+                    long envelope = triple & ~pinned;
+                    long deals = count(0, startCaps, startSatisfied, envelope, memoFor(envelope));
+                    if (deals > 0) {
+                        triples.add(triple);
+                        tripleDeals.add(deals);
+                        totalDeals += deals;
+                        for (long c = triple; c != 0; c &= c - 1) {
+                            cardDeals[Long.numberOfTrailingZeros(c)] += deals;
+                        }
+                    }
+                }
+            }
+        }
+        memos = null;
+        return true;
+    }
+
+    private boolean isWrongAccusation(long triple) {
+        for (int i = 0; i < knowledge.getWrongAccusationCount(); i++) {
+            if (knowledge.getWrongAccusation(i) == triple) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Memo tables for states whose envelope cards still ahead are these
+    private Memo[] memoFor(long envelope) {
+        return memos.computeIfAbsent(envelope, e -> new Memo[cards.length]);
+    }
+
+    /*
+     * Deals that hand out cards[i..] given each seat's room and the
+     * constraints met so far. envelope holds the cards still ahead that
+     * go in the envelope and are skipped; memo is its table.
+     */
+    private long count(int i, long caps, int satisfied, long envelope, Memo[] memo) {
+        if (i == cards.length) {
+            return satisfied == allSatisfied ? 1 : 0;
+        }
+        if ((cards[i] & envelope) != 0) {
+            long after = envelope & ~cards[i];
+            return count(i + 1, caps, satisfied, after, memoFor(after));
+        }
+        if (memo[i] == null) {
+            memo[i] = new Memo();
+        }
+        long key = (caps << 32) | (satisfied & 0xFFFFFFFFL);
+        int slot = memo[i].find(key);
+        if (memo[i].has(slot)) {
+            return memo[i].value(slot);
+        }
+        long deals = 0;
+        if (!isDeadEnd(remaining[i] & ~envelope, caps, satisfied)) {
+            long card = cards[i];
+            for (int seat = 0; seat < seats; seat++) {
+                int shift = CAPACITY_BITS * seat;
+                if (((caps >>> shift) & CAPACITY_MASK) == 0 || (knowledge.getLacks(seat) & card) != 0) {
+                    continue;
+                }
+                deals += count(i + 1, caps - (1L << shift), satisfied | satisfies[i][seat], envelope, memo);
+            }
+        }
+        memo[i].put(key, deals);
+        return deals;
+    }
+
+    // True if some seat can no longer be filled or some constraint can no longer be met
+    private boolean isDeadEnd(long left, long caps, int satisfied) {
+        for (int seat = 0; seat < seats; seat++) {
+            long room = (caps >>> (CAPACITY_BITS * seat)) & CAPACITY_MASK;
+            if (room > Long.bitCount(left & ~knowledge.getLacks(seat))) {
+                return true;
+            }
+        }
+        for (int c = 0; c < constraintSeats.length; c++) {
+            if ((satisfied & (1 << c)) != 0) {
+                continue;
+            }
+            int seat = constraintSeats[c];
+            long room = (caps >>> (CAPACITY_BITS * seat)) & CAPACITY_MASK;
+            if (room == 0 || (left & constraintMasks[c] & ~knowledge.getLacks(seat)) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Open-addressing map from packed state to deal count, without boxing
+    private static final class Memo {
+        private long[] keys = new long[64];
+        private long[] values = new long[64];
+        private boolean[] used = new boolean[64];
+        private int size = 0;
+
+        int find(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (mix(key) & mask);
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        boolean has(int slot) {
+            return used[slot];
+        }
+
+        long value(int slot) {
+            return values[slot];
+        }
+
+        void put(long key, long value) {
+            if (2 * (size + 1) > keys.length) {
+                grow();
+            }
+            int slot = find(key);
+            if (!used[slot]) {
+                size++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            used[slot] = true;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldUsed[slot]) {
+                    put(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+
+        private static long mix(long key) {
+            key *= 0x9E3779B97F4A7C15L;
+            return key ^ (key >>> 29);
+        }
+    }
+}
@@ -13,13 +13,14 @@ import java.awt.*;
  * - Buttons for making an accusation and moving to the next player
  * 
  * The panel is divided into a top section (with player info and controls)
- * and a bottom section (with guess and result display).
+ * and a bottom section (with guess and result display). It listens to the
+ * game engine to keep these fields current.
  * 
  * Authors: Shaurya Saxena, Logan Matthews  
  * Date: August 4, 2025
  */
 
-public class GameControlPanel extends JPanel {
+public class GameControlPanel extends JPanel implements GameListener {
 
     private JPanel topPanel;
     private JPanel bottomPanel;
@@ -28,8 +29,14 @@ public class GameControlPanel extends JPanel {
     private JTextField guessField;
     private JTextField resultField;
     private JButton accusationButton;  // <-- class field
+    private final Board board;
 
     public GameControlPanel() {
+        this(Board.getInstance());
+    }
+
+    public GameControlPanel(Board board) {
+        this.board = board;
         Font boldFont = new Font("SansSerif", Font.BOLD, 12);
         setLayout(new GridLayout(2, 1)); // Top half + bottom half
 
@@ -79,7 +86,7 @@ public class GameControlPanel extends JPanel {
 
         // Column 4: Next Player button
         JButton nextButton = new JButton("Next Player");
-        nextButton.addActionListener(e -> {Board.getInstance().handleNextTurn();});
+        nextButton.addActionListener(e -> {board.handleNextTurn();});
 
         // Add to top panel
         topPanel.add(leftPanel1);
@@ -146,7 +153,10 @@ public class GameControlPanel extends JPanel {
 
     // Placeholder for accusation button click handler
     private void handleAccusationButtonPressed() {
-        Board board = Board.getInstance();
+        // Nothing may change the game while a computer works out its turn
+        if (board.isComputerThinking()) {
+            return;
+        }
         Frame owner = (Frame) SwingUtilities.getWindowAncestor(this);
 
         AccusationDialog accusationDialog = new AccusationDialog(
@@ -166,29 +176,64 @@ public class GameControlPanel extends JPanel {
             );
 
             if (accusation != null) {
-                boolean correct = board.checkAccusation(accusation);
-
-                if (correct) {
-                    JOptionPane.showMessageDialog(this, "Correct! You solved the mystery!");
-                    // Implement game win logic here
-                } else {
-                	    JOptionPane.showMessageDialog(this, "Wrong accusation! You are out of the game.");
-                	    Player currentPlayer = board.getCurrentPlayer();
-                	    currentPlayer.setEliminated(true);
+                // The engine reports the outcome back through accusationMade
+                board.getEngine().handleAccusation(board.getCurrentPlayer(), accusation);
+            } else {
+                JOptionPane.showMessageDialog(this, "Invalid accusation selection.");
+            }
+        }
+    }
 
-                	    // Disable the accusation button so player cannot accuse again
-                	    enableAccusationButton(false);
+    @Override
+    public void turnStarted(Player player, int roll) {
+        setTurn("It is " + player.getName() + "'s turn. Roll: " + roll);
+        setRoll(roll);
+        if (player instanceof HumanPlayer) {
+            enableAccusationButton(true);
+        }
+    }
 
-                	    // Optionally, disable controls or mark the human turn as finished
-                	    board.setHumanMustFinish(false);
-                	}
+    @Override
+    public void suggestionMade(Player suggester, Solution suggestion, Player disprover, Card shownCard) {
+        setGuess(suggester.getName() + " suggests " +
+                suggestion.getPerson().getName() + ", " +
+                suggestion.getRoom().getName() + ", " +
+                suggestion.getWeapon().getName());
+
+        if (disprover == null) {
+            setGuessResult("No new clue");
+        } else if (suggester instanceof HumanPlayer) {
+            setGuessResult("Disproven by " + disprover.getName() + ": " + shownCard.getName());
+        } else {
+            setGuessResult("Disproven by " + disprover.getName());
+        }
+    }
 
-                }
+    @Override
+    public void accusationMade(Player accuser, Solution accusation, boolean correct) {
+        if (accuser instanceof HumanPlayer) {
+            if (correct) {
+                JOptionPane.showMessageDialog(this, "Correct! You solved the mystery!");
             } else {
-                JOptionPane.showMessageDialog(this, "Invalid accusation selection.");
+                JOptionPane.showMessageDialog(this, "Wrong accusation! You are out of the game.");
+                // Disable the accusation button so player cannot accuse again
+                enableAccusationButton(false);
             }
+        } else {
+            JOptionPane.showMessageDialog(this, accuser.getName() + (correct ? " wins!" : " loses!"));
         }
-    
+    }
+
+    @Override
+    public void actionRejected(String message) {
+        JOptionPane.showMessageDialog(this, message);
+    }
+
+    @Override
+    public void computerTurnFailed(Player player, Throwable error) {
+        JOptionPane.showMessageDialog(this, player.getName() + " could not decide and played at random:\n" + error,
+                "Computer turn failed", JOptionPane.WARNING_MESSAGE);
+    }
 
 
     public static void main(String[] args) {
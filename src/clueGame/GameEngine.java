@@ -0,0 +1,346 @@
+/**
+ * Class: GameEngine
+ * Runs the rules of a game on a Board without any user interface: turn
+ * order, dice, movement, suggestions and accusations. Everything the
+ * players should see is reported to GameListeners, so the same engine
+ * drives the Swing window or a headless simulation.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class GameEngine {
+    private final Board board;
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+    private int currentPlayerIndex = -1;
+    private boolean humanMustFinish = false;
+    private boolean gameOver = false;
+    private Player winner = null;
+    private int turnCount = 0;
+    private int lastRoll = 0;
+    // Counts the games dealt, so snapshots from different games are told apart
+    private int game = 0;
+    // What views draw, replaced whole after every change; see RenderSnapshot
+    private volatile RenderSnapshot snapshot = RenderSnapshot.EMPTY;
+
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Clears turn state for a newly dealt game
+    public void reset() {
+        currentPlayerIndex = -1;
+        humanMustFinish = false;
+        gameOver = false;
+        winner = null;
+        turnCount = 0;
+        lastRoll = 0;
+        game++;
+    }
+
+    /*
+     * Advances to the next active player and plays their turn. Computer
+     * turns run to completion; a human turn stops once targets are shown
+     * and waits for moveHuman. Returns false if the turn could not start.
+     */
+    public boolean nextTurn() {
+        Player currentPlayer = startTurn();
+        if (currentPlayer == null) {
+            return false;
+        }
+        if (currentPlayer instanceof ComputerPlayer) {
+            ComputerPlayer cpu = (ComputerPlayer) currentPlayer;
+            if (applyComputerMove(cpu, decideComputerMove(cpu))) {
+                handleSuggestion(cpu, cpu.createSuggestion(board));
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Advances to the next active player and rolls for them. A human's
+     * targets are shown; a computer's turn is left for the caller to play
+     * through decideComputerMove and applyComputerMove, so the deciding can
+     * happen on another thread. Returns the player, or null if no turn began.
+     */
+    Player startTurn() {
+        if (gameOver) {
+            reject("Game over! Please start a new game.");
+            return null;
+        }
+        if (humanMustFinish) {
+            reject("You must finish your move before ending your turn!");
+            return null;
+        }
+
+        List<Player> players = board.getPlayers();
+        if (!advanceToNextActivePlayer(players)) {
+            endGame(null);
+            return null;
+        }
+        Player currentPlayer = players.get(currentPlayerIndex);
+        turnCount++;
+
+        lastRoll = board.rollDie();
+        for (GameListener listener : listeners) {
+            listener.turnStarted(currentPlayer, lastRoll);
+        }
+
+        if (!(currentPlayer instanceof ComputerPlayer)) {
+            humanMustFinish = true;
+            Set<BoardCell> targets = board.calcTargets(currentPlayer.getRow(), currentPlayer.getColumn(), lastRoll);
+            board.highlightTargets(targets);
+            publishSnapshot();
+            fireTargetsChanged(targets);
+        }
+        return currentPlayer;
+    }
+
+    private boolean advanceToNextActivePlayer(List<Player> players) {
+        for (int i = 0; i < players.size(); i++) {
+            currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+            if (!players.get(currentPlayerIndex).isEliminated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * What the computer does with this turn's roll: accuse if it is sure
+     * enough of the answer, otherwise pick a target. Only reads the board,
+     * so it may run off the thread that applies moves as long as nothing
+     * moves meanwhile.
+     */
+    ComputerMove decideComputerMove(ComputerPlayer cpu) {
+        Solution accusation = cpu.chooseAccusation();
+        if (accusation != null) {
+            return ComputerMove.accuse(accusation);
+        }
+        Set<BoardCell> targets = board.findTargets(cpu.getRow(), cpu.getColumn(), lastRoll);
+        if (targets.isEmpty()) {
+            return ComputerMove.STAY; // boxed in, stay put this turn
+        }
+        return ComputerMove.moveTo(cpu.selectTarget(targets));
+    }
+
+    // Plays the move; returns true if it entered a room, where a suggestion must follow
+    boolean applyComputerMove(ComputerPlayer cpu, ComputerMove move) {
+        if (move.getAccusation() != null) {
+            handleAccusation(cpu, move.getAccusation());
+            return false;
+        }
+        BoardCell chosen = move.getTarget();
+        if (chosen == null) {
+            return false;
+        }
+        cpu.moveTo(chosen);
+        publishSnapshot();
+        for (GameListener listener : listeners) {
+            listener.playerMoved(cpu, chosen);
+        }
+        return chosen.isRoomCenter();
+    }
+
+    /*
+     * Moves the human to one of the highlighted targets. Entering a room
+     * asks listeners for a suggestion. Returns false if the move is refused.
+     */
+    public boolean moveHuman(BoardCell destination) {
+        Player human = getCurrentPlayer();
+        if (gameOver || !humanMustFinish || human == null) {
+            return false;
+        }
+        if (human.isEliminated()) {
+            reject("You have been eliminated and cannot move.");
+            return false;
+        }
+        if (!board.isTarget(destination)) {
+            reject("That is not a valid location. Please pick a highlighted cell.");
+            return false;
+        }
+
+        human.moveTo(destination);
+        board.clearHighlights();
+        publishSnapshot();
+        fireTargetsChanged(Collections.emptySet());
+        humanMustFinish = false;
+        for (GameListener listener : listeners) {
+            listener.playerMoved(human, destination);
+        }
+
+        if (destination.isRoomCenter()) {
+            Room room = board.getRoom(destination);
+            for (GameListener listener : listeners) {
+                listener.suggestionRequested(human, room);
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Moves the suggested person into the room, then asks each other player
+     * in turn order to disprove. Returns the card shown, or null if nobody
+     * could disprove.
+     */
+    public Card handleSuggestion(Player suggestingPlayer, Solution suggestion) {
+        Player suggested = board.moveSuggestedPersonToRoom(suggestion.getPerson(), suggestion.getRoom());
+        if (suggested != null) {
+            publishSnapshot();
+            BoardCell roomCell = board.getCell(suggested.getRow(), suggested.getColumn());
+            for (GameListener listener : listeners) {
+                listener.playerMoved(suggested, roomCell);
+            }
+        }
+
+        Player disprover = board.findDisprover(suggestingPlayer, suggestion);
+        Card disproved = disprover == null ? null : disprover.disproveSuggestion(suggestion);
+
+        // Every computer learns from the suggestion; only the suggester sees the card
+        for (Player player : board.getPlayers()) {
+            if (player instanceof ComputerPlayer) {
+                Card shown = player == suggestingPlayer ? disproved : null;
+                ((ComputerPlayer) player).observeSuggestion(suggestingPlayer, suggestion, disprover, shown);
+            }
+        }
+
+        for (GameListener listener : listeners) {
+            listener.suggestionMade(suggestingPlayer, suggestion, disprover, disproved);
+        }
+        return disproved;
+    }
+
+    /*
+     * A correct accusation wins the game; a wrong one eliminates the player,
+     * who keeps disproving suggestions. Returns whether it was correct.
+     */
+    public boolean handleAccusation(Player accuser, Solution accusation) {
+        boolean correct = accusation != null && board.checkAccusation(accusation);
+        if (!correct) {
+            accuser.setEliminated(true);
+            if (accuser == getCurrentPlayer()) {
+                humanMustFinish = false;
+                board.clearHighlights();
+                publishSnapshot();
+                fireTargetsChanged(Collections.emptySet());
+            }
+        }
+
+        for (Player player : board.getPlayers()) {
+            if (player instanceof ComputerPlayer) {
+                ((ComputerPlayer) player).observeAccusation(accuser, accusation, correct);
+            }
+        }
+        for (GameListener listener : listeners) {
+            listener.accusationMade(accuser, accusation, correct);
+        }
+
+        if (correct) {
+            endGame(accuser);
+        } else if (board.getPlayers().stream().allMatch(Player::isEliminated)) {
+            endGame(null);
+        }
+        return correct;
+    }
+
+    /*
+     * Plays turns back to back until the game ends, a human has to move,
+     * or maxTurns turns have been played. Returns the winner, if any.
+     */
+    public Player playUntilGameOver(int maxTurns) {
+        int limit = turnCount + maxTurns;
+        while (!gameOver && !humanMustFinish && turnCount < limit) {
+            nextTurn();
+        }
+        return winner;
+    }
+
+    private void endGame(Player winner) {
+        gameOver = true;
+        this.winner = winner;
+        for (GameListener listener : listeners) {
+            listener.gameOver(winner);
+        }
+    }
+
+    // The latest snapshot; safe to read from any thread
+    public RenderSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // Captures the board as it now stands and hands it to the views
+    void publishSnapshot() {
+        RenderSnapshot previous = snapshot;
+        snapshot = RenderSnapshot.capture(board, game);
+        for (GameListener listener : listeners) {
+            listener.snapshotPublished(previous, snapshot);
+        }
+    }
+
+    private void fireTargetsChanged(Set<BoardCell> targets) {
+        for (GameListener listener : listeners) {
+            listener.targetsChanged(targets);
+        }
+    }
+
+    private void reject(String message) {
+        for (GameListener listener : listeners) {
+            listener.actionRejected(message);
+        }
+    }
+
+    // Tells listeners a computer's decision failed, before its stand-in is played
+    void reportComputerFailure(ComputerPlayer cpu, Throwable error) {
+        for (GameListener listener : listeners) {
+            listener.computerTurnFailed(cpu, error);
+        }
+    }
+
+    public Player getCurrentPlayer() {
+        List<Player> players = board.getPlayers();
+        if (currentPlayerIndex < 0 || currentPlayerIndex >= players.size()) {
+            return null;
+        }
+        return players.get(currentPlayerIndex);
+    }
+
+    public boolean isHumanMustFinish() {
+        return humanMustFinish;
+    }
+
+    public void setHumanMustFinish(boolean humanMustFinish) {
+        this.humanMustFinish = humanMustFinish;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getLastRoll() {
+        return lastRoll;
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Interface: GameListener
+ * Receives game events from the GameEngine: turns, moves, suggestions,
+ * accusations and the end of the game. Every method has an empty default,
+ * so a listener only overrides what it displays or records. The Swing
+ * panels are listeners; headless runs can attach none at all.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.Set;
+
+public interface GameListener {
+
+    // A new turn began and the current player rolled
+    default void turnStarted(Player player, int roll) {
+    }
+
+    // The highlighted targets for the human player changed (empty when cleared)
+    default void targetsChanged(Set<BoardCell> targets) {
+    }
+
+    default void playerMoved(Player player, BoardCell destination) {
+    }
+
+    // Targets or positions changed and current replaced previous as what views draw
+    default void snapshotPublished(RenderSnapshot previous, RenderSnapshot current) {
+    }
+
+    // The human entered a room and may now make a suggestion there
+    default void suggestionRequested(Player player, Room room) {
+    }
+
+    // disprover and shownCard are null when nobody could disprove
+    default void suggestionMade(Player suggester, Solution suggestion, Player disprover, Card shownCard) {
+    }
+
+    default void accusationMade(Player accuser, Solution accusation, boolean correct) {
+    }
+
+    // winner is null when every player was eliminated
+    default void gameOver(Player winner) {
+    }
+
+    // A request was refused, e.g. ending the turn before the human moved
+    default void actionRejected(String message) {
+    }
+
+    // Working out a computer's move or suggestion threw; a random one was played instead
+    default void computerTurnFailed(Player player, Throwable error) {
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Class: Hand
+ * The cards a player holds. It behaves as an ordinary list, and also
+ * keeps a bitmask of the held card ids, so checking a suggestion against
+ * the hand takes a single AND. Each change is reported to the player's
+ * board, which keeps its index of who holds each card up to date.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+final class Hand extends AbstractList<Card> implements RandomAccess {
+    private final Player owner;
+    private final List<Card> cards = new ArrayList<>();
+    private long mask = 0L;
+    // Cards without a registry id can only be matched by scanning the list
+    private int unregistered = 0;
+
+    Hand(Player owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        cards.add(index, card);
+        modCount++;
+        added(card);
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = cards.set(index, card);
+        removed(old);
+        added(card);
+        return old;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card old = cards.remove(index);
+        modCount++;
+        removed(old);
+        return old;
+    }
+
+    long getMask() {
+        return mask;
+    }
+
+    boolean isFullyRegistered() {
+        return unregistered == 0;
+    }
+
+    private void added(Card card) {
+        if (card == null || card.getId() < 0) {
+            unregistered++;
+            return;
+        }
+        mask |= card.getMask();
+        notifyBoard(card, true);
+    }
+
+    private void removed(Card card) {
+        if (card == null || card.getId() < 0) {
+            unregistered--;
+            return;
+        }
+        // A duplicate copy keeps the card held
+        if (!cards.contains(card)) {
+            mask &= ~card.getMask();
+            notifyBoard(card, false);
+        }
+    }
+
+    private void notifyBoard(Card card, boolean held) {
+        Board board = owner.getBoard();
+        if (board != null) {
+            board.handChanged(owner, card, held);
+        }
+    }
+}
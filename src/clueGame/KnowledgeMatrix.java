@@ -0,0 +1,355 @@
+/**
+ * Class: KnowledgeMatrix
+ * What one player has worked out about where every card is. Rows are the
+ * seats plus one extra row for the solution envelope. Each row keeps two
+ * bitsets over card ids: cards known to be held, and cards known not to
+ * be held. Suggestions add facts and "holds at least one of these"
+ * constraints. propagate() applies the rules of the game until nothing
+ * changes:
+ *  - every card has exactly one owner
+ *  - the envelope holds exactly one card of each type
+ *  - every player holds exactly as many cards as they were dealt
+ *  - a disprover shows one of the suggested cards they hold
+ *  - a wrong accusation names at least one card outside the envelope
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.Arrays;
+
+public class KnowledgeMatrix {
+    private final int seats;
+    private final int envelope;          // row index of the solution
+    private final long allCards;
+    private final long[] typeMasks = new long[CardType.values().length];
+    private final int[] handSizes;
+    private final long[] has;
+    private final long[] lacks;
+
+    // Pending "seat holds at least one of mask" facts from unseen disprovals
+    private int[] constraintSeats = new int[8];
+    private long[] constraintMasks = new long[8];
+    private int constraintCount = 0;
+    // Triples known not to be the solution, from wrong accusations
+    private long[] wrongAccusations = new long[4];
+    private int wrongCount = 0;
+
+    private boolean consistent = true;
+    // Bumped whenever a fact is recorded, so solvers know when to start over
+    private long revision = 0;
+
+    public KnowledgeMatrix(CardRegistry cards, int[] handSizes) {
+        this.seats = handSizes.length;
+        this.envelope = seats;
+        this.handSizes = handSizes.clone();
+        long all = 0L;
+        for (Card card : cards.getCards()) {
+            all |= card.getMask();
+            typeMasks[card.getType().ordinal()] |= card.getMask();
+        }
+        this.allCards = all;
+        this.has = new long[seats + 1];
+        this.lacks = new long[seats + 1];
+    }
+
+    // Copy for speculative reasoning; the copy can be updated independently
+    public KnowledgeMatrix(KnowledgeMatrix other) {
+        this.seats = other.seats;
+        this.envelope = other.envelope;
+        this.allCards = other.allCards;
+        System.arraycopy(other.typeMasks, 0, typeMasks, 0, typeMasks.length);
+        this.handSizes = other.handSizes.clone();
+        this.has = other.has.clone();
+        this.lacks = other.lacks.clone();
+        this.constraintSeats = Arrays.copyOf(other.constraintSeats, other.constraintSeats.length);
+        this.constraintMasks = Arrays.copyOf(other.constraintMasks, other.constraintMasks.length);
+        this.constraintCount = other.constraintCount;
+        this.wrongAccusations = Arrays.copyOf(other.wrongAccusations, other.wrongAccusations.length);
+        this.wrongCount = other.wrongCount;
+        this.consistent = other.consistent;
+        this.revision = other.revision;
+    }
+
+    // The whole hand of one seat is known (normally our own)
+    public void recordHand(int seat, long hand) {
+        has[seat] |= hand;
+        lacks[seat] |= allCards & ~hand;
+        propagate();
+    }
+
+    public void recordHolds(int seat, int cardId) {
+        has[seat] |= 1L << cardId;
+        propagate();
+    }
+
+    // Seen in someone's hand without knowing whose
+    public void recordNotSolution(int cardId) {
+        lacks[envelope] |= 1L << cardId;
+        propagate();
+    }
+
+    /*
+     * Records one suggestion as seen from this seat. Everyone between the
+     * suggester and the disprover passed, so they hold none of the cards.
+     * The disprover holds shownId if we saw it (-1 otherwise), or else at
+     * least one of the cards. disprover is -1 when nobody could disprove.
+     */
+    public void recordSuggestion(int suggester, long suggestion, int disprover, int shownId) {
+        for (int i = 1; i < seats; i++) {
+            int seat = (suggester + i) % seats;
+            if (seat == disprover) {
+                break;
+            }
+            lacks[seat] |= suggestion;
+        }
+        if (disprover >= 0) {
+            if (shownId >= 0) {
+                has[disprover] |= 1L << shownId;
+            } else {
+                addConstraint(disprover, suggestion);
+            }
+        }
+        propagate();
+    }
+
+    public void recordWrongAccusation(long accusation) {
+        if (wrongCount == wrongAccusations.length) {
+            wrongAccusations = Arrays.copyOf(wrongAccusations, wrongCount * 2);
+        }
+        wrongAccusations[wrongCount++] = accusation;
+        propagate();
+    }
+
+    private void addConstraint(int seat, long mask) {
+        if (constraintCount == constraintSeats.length) {
+            constraintSeats = Arrays.copyOf(constraintSeats, constraintCount * 2);
+            constraintMasks = Arrays.copyOf(constraintMasks, constraintCount * 2);
+        }
+        constraintSeats[constraintCount] = seat;
+        constraintMasks[constraintCount] = mask;
+        constraintCount++;
+    }
+
+    // Applies every rule until a full pass learns nothing new
+    public void propagate() {
+        revision++;
+        boolean changed = true;
+        while (changed && consistent) {
+            long before = checksum();
+            applyOwnership();
+            applyEnvelope();
+            applyHandSizes();
+            applyConstraints();
+            applyWrongAccusations();
+            changed = checksum() != before;
+        }
+    }
+
+    // Facts only ever get added, so a change always alters this sum
+    private long checksum() {
+        long sum = 0;
+        for (int row = 0; row <= seats; row++) {
+            sum += Long.bitCount(has[row]) + Long.bitCount(lacks[row]);
+        }
+        return sum;
+    }
+
+    private void applyOwnership() {
+        long held = 0L;
+        for (int row = 0; row <= seats; row++) {
+            if ((held & has[row]) != 0 || (has[row] & lacks[row]) != 0) {
+                consistent = false;
+                return;
+            }
+            held |= has[row];
+        }
+        // A card held by one row is lacked by all the others
+        for (int row = 0; row <= seats; row++) {
+            lacks[row] |= held & ~has[row];
+        }
+        // A card every row but one lacks belongs to the remaining row
+        long openToOne = 0L;
+        long openToMany = 0L;
+        for (int row = 0; row <= seats; row++) {
+            long open = allCards & ~lacks[row];
+            openToMany |= openToOne & open;
+            openToOne |= open;
+        }
+        if ((allCards & ~openToOne) != 0) {
+            consistent = false;
+            return;
+        }
+        long forced = openToOne & ~openToMany & ~held;
+        if (forced != 0) {
+            for (int row = 0; row <= seats; row++) {
+                has[row] |= forced & ~lacks[row];
+            }
+        }
+    }
+
+    private void applyEnvelope() {
+        for (long type : typeMasks) {
+            long known = has[envelope] & type;
+            if (Long.bitCount(known) > 1) {
+                consistent = false;
+                return;
+            }
+            if (known != 0) {
+                lacks[envelope] |= type & ~known;
+            }
+            long possible = type & ~lacks[envelope];
+            if (possible == 0) {
+                consistent = false;
+                return;
+            }
+            if (Long.bitCount(possible) == 1) {
+                has[envelope] |= possible;
+            }
+        }
+    }
+
+    private void applyHandSizes() {
+        for (int seat = 0; seat < seats; seat++) {
+            long possible = allCards & ~lacks[seat];
+            int held = Long.bitCount(has[seat]);
+            if (held > handSizes[seat] || Long.bitCount(possible) < handSizes[seat]) {
+                consistent = false;
+                return;
+            }
+            if (held == handSizes[seat]) {
+                lacks[seat] |= allCards & ~has[seat];
+            } else if (Long.bitCount(possible) == handSizes[seat]) {
+                has[seat] |= possible;
+            }
+        }
+    }
+
+    private void applyConstraints() {
+        int i = 0;
+        while (i < constraintCount) {
+            int seat = constraintSeats[i];
+            long mask = constraintMasks[i];
+            long open = mask & ~lacks[seat];
+            if ((has[seat] & mask) != 0) {
+                removeConstraint(i);    // already satisfied
+            } else if (Long.bitCount(open) == 1) {
+                has[seat] |= open;      // only one card they could have shown
+                removeConstraint(i);
+            } else if (open == 0) {
+                consistent = false;
+                return;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void removeConstraint(int i) {
+        constraintCount--;
+        constraintSeats[i] = constraintSeats[constraintCount];
+        constraintMasks[i] = constraintMasks[constraintCount];
+    }
+
+    private void applyWrongAccusations() {
+        for (int i = 0; i < wrongCount; i++) {
+            long accusation = wrongAccusations[i];
+            if ((accusation & lacks[envelope]) != 0) {
+                continue;   // already known to be wrong
+            }
+            long known = accusation & has[envelope];
+            if (known == accusation) {
+                consistent = false;
+                return;
+            }
+            // Two of the three are in the envelope, so the third is not
+            if (Long.bitCount(known) == Long.bitCount(accusation) - 1) {
+                lacks[envelope] |= accusation & ~known;
+            }
+        }
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    public long getAllCards() {
+        return allCards;
+    }
+
+    public long getTypeMask(CardType type) {
+        return typeMasks[type.ordinal()];
+    }
+
+    // Cards known to be held by a seat; pass getSeats() for the envelope
+    public long getHas(int row) {
+        return has[row];
+    }
+
+    public long getLacks(int row) {
+        return lacks[row];
+    }
+
+    public int getConstraintCount() {
+        return constraintCount;
+    }
+
+    public int getConstraintSeat(int i) {
+        return constraintSeats[i];
+    }
+
+    public long getConstraintMask(int i) {
+        return constraintMasks[i];
+    }
+
+    public int getWrongAccusationCount() {
+        return wrongCount;
+    }
+
+    public long getWrongAccusation(int i) {
+        return wrongAccusations[i];
+    }
+
+    // Cards of a type that could still be in the envelope
+    public long getSolutionCandidates(CardType type) {
+        return typeMasks[type.ordinal()] & ~lacks[envelope];
+    }
+
+    public boolean isSolutionCandidate(int cardId) {
+        return (lacks[envelope] & (1L << cardId)) == 0;
+    }
+
+    // Number of person x room x weapon triples not yet ruled out card by card
+    public long countCandidateTriples() {
+        long count = 1;
+        for (CardType type : CardType.values()) {
+            count *= Long.bitCount(getSolutionCandidates(type));
+        }
+        return count;
+    }
+
+    public boolean isSolved() {
+        return consistent && Long.bitCount(has[envelope]) == typeMasks.length;
+    }
+
+    // The envelope's cards once solved, one bit per type
+    public long getSolutionMask() {
+        return has[envelope];
+    }
+
+    // False if the facts recorded contradict each other
+    public boolean isConsistent() {
+        return consistent;
+    }
+}
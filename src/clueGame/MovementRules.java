@@ -0,0 +1,49 @@
+/**
+ * Class: MovementRules
+ * Movement settings for a board: which dice are rolled, and the longest
+ * roll that is still searched exactly. Exact search enumerates every
+ * simple path and grows exponentially with the roll, so longer moves
+ * (2d6, bonus steps) use the bounded layered search instead.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+public class MovementRules {
+    // Rolls up to this length give identical results with either search
+    public static final int DEFAULT_EXACT_SEARCH_LIMIT = 6;
+
+    private final DiceModel dice;
+    private final int exactSearchLimit;
+
+    public MovementRules(DiceModel dice, int exactSearchLimit) {
+        if (dice == null) {
+            throw new IllegalArgumentException("Movement rules need a dice model");
+        }
+        this.dice = dice;
+        this.exactSearchLimit = exactSearchLimit;
+    }
+
+    public MovementRules(DiceModel dice) {
+        this(dice, DEFAULT_EXACT_SEARCH_LIMIT);
+    }
+
+    public static MovementRules standard() {
+        return new MovementRules(DiceModel.standard());
+    }
+
+    public DiceModel getDice() {
+        return dice;
+    }
+
+    public int getExactSearchLimit() {
+        return exactSearchLimit;
+    }
+
+    public boolean useExactSearch(int pathLength) {
+        return pathLength <= exactSearchLimit;
+    }
+}
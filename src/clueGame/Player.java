@@ -13,24 +13,30 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public abstract class Player {
     private String name;
     private String color;
     private int row;
     private int column;
-    private List<Card> hand;
-    private static final Random rand = new Random();
+    private final Hand hand;
     private boolean eliminated = false;
+    // Board this player is placed on, told about every move so it can track occupancy
+    private Board board;
+    // Split from the board's generator when placed, so a seeded game replays exactly
+    private SplittableRandom random = new SplittableRandom();
+    // Position in the board's turn order, or -1 when not placed
+    private int seat = -1;
 
     public Player(String name, String color, int row, int column) {
         this.name = name;
         this.color = color;
         this.row = row;
         this.column = column;
-        this.hand = new ArrayList<>();
+        this.hand = new Hand(this);
     }
 
     public void addCard(Card c) {
@@ -61,8 +67,47 @@ public abstract class Player {
     }
 
     public void setLocation(int row, int column) {
+        int fromRow = this.row;
+        int fromColumn = this.column;
         this.row = row;
         this.column = column;
+        if (board != null) {
+            board.playerMoved(fromRow, fromColumn, row, column);
+        }
+    }
+
+    void setBoard(Board board) {
+        this.board = board;
+    }
+
+    // Board this player is playing on, or null if not yet placed
+    public Board getBoard() {
+        return board;
+    }
+
+    void setSeat(int seat) {
+        this.seat = seat;
+    }
+
+    int getSeat() {
+        return seat;
+    }
+
+    long getHandMask() {
+        return hand.getMask();
+    }
+
+    void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    protected RandomGenerator getRandom() {
+        return random;
+    }
+
+    // An independent generator for work this player hands off, such as sampling
+    SplittableRandom splitRandom() {
+        return random.split();
     }
 
     @Override
@@ -71,6 +116,27 @@ public abstract class Player {
     }
     
     public Card disproveSuggestion(Solution suggestion) {
+        if (!hand.isFullyRegistered() || !suggestion.isRegistered()) {
+            return disproveByScanning(suggestion);
+        }
+
+        long matches = hand.getMask() & suggestion.getCardMask();
+        if (matches == 0) {
+            return null;
+        }
+        // Show one of the matching cards at random
+        int skip = Long.bitCount(matches) == 1 ? 0 : random.nextInt(Long.bitCount(matches));
+        for (int i = 0; i < skip; i++) {
+            matches &= matches - 1;
+        }
+        long bit = Long.lowestOneBit(matches);
+        if (suggestion.getPerson().getMask() == bit) return suggestion.getPerson();
+        if (suggestion.getWeapon().getMask() == bit) return suggestion.getWeapon();
+        return suggestion.getRoom();
+    }
+
+    // Slow path for cards made outside a CardRegistry
+    private Card disproveByScanning(Solution suggestion) {
         List<Card> matchingCards = new ArrayList<>();
 
         for (Card card : hand) {
@@ -84,8 +150,7 @@ public abstract class Player {
         if (matchingCards.isEmpty()) {
             return null;
         } else {
-            Random rand = new Random();
-            return matchingCards.get(rand.nextInt(matchingCards.size()));
+            return matchingCards.get(random.nextInt(matchingCards.size()));
         }
     }
 
@@ -110,8 +175,7 @@ public abstract class Player {
 	}
 	
 	public void moveTo(BoardCell cell) {
-	    this.row = cell.getRow();
-	    this.column = cell.getColumn();
+	    setLocation(cell.getRow(), cell.getColumn());
 	}
 	
 	public void draw(Graphics g) {
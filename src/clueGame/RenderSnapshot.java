@@ -0,0 +1,107 @@
+/**
+ * Class: RenderSnapshot
+ * An immutable picture of what a board view draws on top of the layout:
+ * the highlighted target cells and each player's position and colour.
+ * The GameEngine captures a new one after every change and publishes it
+ * through a single volatile reference, so the view paints from plain
+ * arrays that nothing changes underneath it, whichever thread runs the
+ * game. Each snapshot also records which game and which layout it was
+ * taken from, so a view can tell a new deal or new players from a move.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.awt.Color;
+import java.util.List;
+
+public final class RenderSnapshot {
+    // Nothing highlighted and nobody on the board, before a game is dealt
+    public static final RenderSnapshot EMPTY = new RenderSnapshot(-1, -1L, new int[0], new int[0], new int[0], new int[0], new Color[0]);
+
+    private final int game;
+    private final long layoutVersion;
+
+    private final int[] targetRows;
+    private final int[] targetColumns;
+    private final int[] playerRows;
+    private final int[] playerColumns;
+    private final Color[] playerColors;
+
+    private RenderSnapshot(int game, long layoutVersion, int[] targetRows, int[] targetColumns, int[] playerRows,
+            int[] playerColumns, Color[] playerColors) {
+        this.game = game;
+        this.layoutVersion = layoutVersion;
+        this.targetRows = targetRows;
+        this.targetColumns = targetColumns;
+        this.playerRows = playerRows;
+        this.playerColumns = playerColumns;
+        this.playerColors = playerColors;
+    }
+
+    // The board's highlighted cells and players as they stand now, in the given game
+    static RenderSnapshot capture(Board board, int game) {
+        List<BoardCell> targets = board.getHighlightedCells();
+        int[] targetRows = new int[targets.size()];
+        int[] targetColumns = new int[targets.size()];
+        for (int i = 0; i < targetRows.length; i++) {
+            targetRows[i] = targets.get(i).getRow();
+            targetColumns[i] = targets.get(i).getColumn();
+        }
+
+        List<Player> players = board.getPlayers();
+        int[] playerRows = new int[players.size()];
+        int[] playerColumns = new int[players.size()];
+        Color[] playerColors = new Color[players.size()];
+        for (int i = 0; i < playerRows.length; i++) {
+            Player player = players.get(i);
+            playerRows[i] = player.getRow();
+            playerColumns[i] = player.getColumn();
+            playerColors[i] = player.getColorObject();
+        }
+        return new RenderSnapshot(game, board.getLayoutVersion(), targetRows, targetColumns, playerRows,
+                playerColumns, playerColors);
+    }
+
+    /*
+     * True if both were taken from the same deal on the same layout with
+     * the same players, so only what moved differs. Players can be loaded
+     * or added without a new deal, so the count is compared too.
+     */
+    public boolean isSameGame(RenderSnapshot other) {
+        return game == other.game && layoutVersion == other.layoutVersion
+                && playerRows.length == other.playerRows.length;
+    }
+
+    public int getTargetCount() {
+        return targetRows.length;
+    }
+
+    public int getTargetRow(int i) {
+        return targetRows[i];
+    }
+
+    public int getTargetColumn(int i) {
+        return targetColumns[i];
+    }
+
+    // Players in seat order
+    public int getPlayerCount() {
+        return playerRows.length;
+    }
+
+    public int getPlayerRow(int i) {
+        return playerRows[i];
+    }
+
+    public int getPlayerColumn(int i) {
+        return playerColumns[i];
+    }
+
+    public Color getPlayerColor(int i) {
+        return playerColors[i];
+    }
+}
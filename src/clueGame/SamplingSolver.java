@@ -0,0 +1,414 @@
+/**
+ * Class: SamplingSolver
+ * Estimates how likely each card is to be in the solution envelope by
+ * sampling complete deals consistent with a player's KnowledgeMatrix.
+ *
+ * Samples come from a Markov chain over deals: each step swaps two cards
+ * that are not pinned by a known fact between two rows, keeping hand sizes
+ * and one envelope card per type, and the swap is kept only if the deal
+ * still fits every recorded fact. The swap is symmetric, so the chain
+ * settles on the uniform distribution over deals that fit the evidence,
+ * which is what "every consistent deal is equally likely" means.
+ *
+ * Samples are kept between calls. update() drops the ones a new fact
+ * rules out, and refill() tops the pool back up with CHAINS chains, each
+ * continuing from a surviving sample (or a fresh deal repaired until it
+ * fits) with a generator split from this solver's. The chains run side by
+ * side on the fork-join pool, but how many there are never depends on the
+ * cores available, so without a time budget, which is off unless set, the
+ * pool is the same on every run and every machine.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class SamplingSolver implements SolutionEstimator {
+    public static final int DEFAULT_POOL_SIZE = 512;
+    // Chains each refill is split into, fixed so the samples do not depend on the machine
+    private static final int CHAINS = 8;
+    // Swaps tried between recorded samples, so neighbours are less alike
+    private static final int STEPS_PER_SAMPLE = 8;
+    // Swaps run from a fresh deal before its chain is sampled
+    private static final int BURN_IN_STEPS = 200;
+    // Swaps allowed for turning a fresh deal into one that fits
+    private static final int MAX_REPAIR_STEPS = 20000;
+    // Fresh deals tried before giving up when cards keep running out of seats
+    private static final int MAX_DEAL_ATTEMPTS = 1000;
+    // Deadline is checked once per this many samples
+    private static final int DEADLINE_STRIDE = 16;
+
+    private final KnowledgeMatrix knowledge;
+    private final SplittableRandom random;
+    private int poolSize = DEFAULT_POOL_SIZE;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private long timeBudgetNanos = 0L;
+
+    // Each sample is one complete deal: [seat] is that seat's hand, [seats] the envelope
+    private final List<long[]> samples = new ArrayList<>();
+    private final int[] envelopeCount = new int[CardRegistry.MAX_CARDS];
+
+    public SamplingSolver(KnowledgeMatrix knowledge, SplittableRandom random) {
+        this.knowledge = knowledge;
+        this.random = random;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = Math.max(1, poolSize);
+    }
+
+    // Threads the chains may run on, 1 for the calling thread alone; the samples are the same either way
+    public void setWorkers(int workers) {
+        this.workers = Math.max(1, workers);
+    }
+
+    // Wall-clock limit for one refill, 0 for none; a limit makes results depend on timing
+    public void setTimeBudgetNanos(long timeBudgetNanos) {
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    public long getTimeBudgetNanos() {
+        return timeBudgetNanos;
+    }
+
+    // Drops samples that contradict facts recorded since they were drawn
+    public void update() {
+        samples.removeIf(rows -> !fits(knowledge, rows));
+        recount();
+    }
+
+    /*
+     * Draws new samples until the pool is full or the time budget runs out.
+     * Interrupting the calling thread also stops it early, keeping the
+     * samples drawn so far.
+     */
+    public void refill() {
+        int wanted = poolSize - samples.size();
+        if (wanted <= 0 || !knowledge.isConsistent()) {
+            return;
+        }
+        long deadline = timeBudgetNanos > 0 ? System.nanoTime() + timeBudgetNanos : Long.MAX_VALUE;
+        int tasks = Math.min(CHAINS, wanted);
+        List<ChainTask> chainTasks = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int count = wanted / tasks + (i < wanted % tasks ? 1 : 0);
+            // Spread the surviving samples over the chains as starting points
+            long[] start = samples.isEmpty() ? null : samples.get(i * samples.size() / tasks);
+            chainTasks.add(new ChainTask(new KnowledgeMatrix(knowledge), random.split(), start, count, deadline,
+                    Thread.currentThread()));
+        }
+        if (tasks == 1 || workers == 1) {
+            for (ChainTask task : chainTasks) {
+                samples.addAll(task.compute());
+            }
+        } else {
+            ForkJoinTask.invokeAll(chainTasks);
+            for (ChainTask task : chainTasks) {
+                samples.addAll(task.join());
+            }
+        }
+        recount();
+    }
+
+    private void recount() {
+        Arrays.fill(envelopeCount, 0);
+        int envelope = knowledge.getSeats();
+        for (long[] rows : samples) {
+            long cards = rows[envelope];
+            while (cards != 0) {
+                envelopeCount[Long.numberOfTrailingZeros(cards)]++;
+                cards &= cards - 1;
+            }
+        }
+    }
+
+    public int getSampleCount() {
+        return samples.size();
+    }
+
+    // The pooled deals, each indexed by seat with the envelope last
+    public List<long[]> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    // Estimated chance the card is in the envelope; falls back to the matrix with no samples
+    @Override
+    public double getProbability(int cardId) {
+        if (!samples.isEmpty()) {
+            return (double) envelopeCount[cardId] / samples.size();
+        }
+        if (!knowledge.isSolutionCandidate(cardId)) {
+            return 0.0;
+        }
+        for (CardType type : CardType.values()) {
+            long candidates = knowledge.getSolutionCandidates(type);
+            if ((candidates & (1L << cardId)) != 0) {
+                return 1.0 / Long.bitCount(candidates);
+            }
+        }
+        return 0.0;
+    }
+
+    // The envelope seen most often, as a card mask, or 0 with no samples
+    @Override
+    public long getMostLikelySolution() {
+        Map<Long, Integer> counts = new HashMap<>();
+        long best = 0L;
+        int bestCount = 0;
+        int envelope = knowledge.getSeats();
+        for (long[] rows : samples) {
+            int count = counts.merge(rows[envelope], 1, Integer::sum);
+            if (count > bestCount) {
+                bestCount = count;
+                best = rows[envelope];
+            }
+        }
+        return best;
+    }
+
+    // Estimated chance that the envelope is exactly this card mask
+    @Override
+    public double getProbability(long solution) {
+        if (samples.isEmpty()) {
+            return 0.0;
+        }
+        int count = 0;
+        int envelope = knowledge.getSeats();
+        for (long[] rows : samples) {
+            if (rows[envelope] == solution) {
+                count++;
+            }
+        }
+        return (double) count / samples.size();
+    }
+
+    // Whether a complete deal agrees with every fact in the matrix
+    static boolean fits(KnowledgeMatrix k, long[] rows) {
+        for (int row = 0; row < rows.length; row++) {
+            if ((rows[row] & k.getLacks(row)) != 0 || (k.getHas(row) & ~rows[row]) != 0) {
+                return false;
+            }
+        }
+        return violations(k, rows) == 0;
+    }
+
+    // Disprover constraints and wrong accusations the deal breaks
+    private static int violations(KnowledgeMatrix k, long[] rows) {
+        int broken = 0;
+        for (int i = 0; i < k.getConstraintCount(); i++) {
+            if ((rows[k.getConstraintSeat(i)] & k.getConstraintMask(i)) == 0) {
+                broken++;
+            }
+        }
+        int envelope = k.getSeats();
+        for (int i = 0; i < k.getWrongAccusationCount(); i++) {
+            if (rows[envelope] == k.getWrongAccusation(i)) {
+                broken++;
+            }
+        }
+        return broken;
+    }
+
+    /*
+     * Runs one chain and returns the deals it visits every few steps. A
+     * chain starts from a given sample, or from a random deal that respects
+     * held and lacked cards and hand sizes, which is then repaired by swaps
+     * that never break more constraints until it fits.
+     */
+    private static final class ChainTask extends RecursiveTask<List<long[]>> {
+        private static final long serialVersionUID = 1L;
+
+        private final KnowledgeMatrix k;
+        private final SplittableRandom rand;
+        private final long[] start;
+        private final int count;
+        private final long deadline;
+        // Thread that asked for the samples; interrupting it stops every chain
+        private final Thread caller;
+        private final int seats;
+        private final long movable;
+
+        ChainTask(KnowledgeMatrix k, SplittableRandom rand, long[] start, int count, long deadline, Thread caller) {
+            this.k = k;
+            this.rand = rand;
+            this.start = start;
+            this.count = count;
+            this.deadline = deadline;
+            this.caller = caller;
+            this.seats = k.getSeats();
+            long pinned = 0L;
+            for (int row = 0; row <= seats; row++) {
+                pinned |= k.getHas(row);
+            }
+            this.movable = k.getAllCards() & ~pinned;
+        }
+
+        @Override
+        protected List<long[]> compute() {
+            List<long[]> drawn = new ArrayList<>(count);
+            long[] rows = start != null ? start.clone() : freshDeal();
+            if (rows == null) {
+                return drawn;
+            }
+            if (start == null) {
+                for (int i = 0; i < BURN_IN_STEPS; i++) {
+                    step(rows, 0);
+                }
+            }
+            while (drawn.size() < count) {
+                if (drawn.size() % DEADLINE_STRIDE == 0 && (System.nanoTime() > deadline || caller.isInterrupted())) {
+                    break;
+                }
+                for (int i = 0; i < STEPS_PER_SAMPLE; i++) {
+                    step(rows, 0);
+                }
+                drawn.add(rows.clone());
+            }
+            return drawn;
+        }
+
+        // A random deal that fits, or null if repair runs out of steps
+        private long[] freshDeal() {
+            long[] rows = new long[seats + 1];
+            if (!deal(rows)) {
+                return null;
+            }
+            int broken = violations(k, rows);
+            for (int i = 0; broken > 0 && i < MAX_REPAIR_STEPS; i++) {
+                broken = step(rows, broken);
+            }
+            return broken == 0 ? rows : null;
+        }
+
+        /*
+         * Tries one swap and keeps it if it breaks no more constraints than
+         * the deal already did. Returns the number broken afterwards.
+         */
+        private int step(long[] rows, int broken) {
+            int total = Long.bitCount(movable);
+            if (total < 2) {
+                return broken;
+            }
+            long a = nthBit(movable, rand.nextInt(total));
+            long b = nthBit(movable, rand.nextInt(total));
+            int rowA = rowOf(rows, a);
+            int rowB = rowOf(rows, b);
+            if (rowA == rowB || (k.getLacks(rowA) & b) != 0 || (k.getLacks(rowB) & a) != 0) {
+                return broken;
+            }
+            // The envelope keeps one card of each type
+            if ((rowA == seats || rowB == seats) && typeOf(a) != typeOf(b)) {
+                return broken;
+            }
+            swap(rows, rowA, a, rowB, b);
+            int after = violations(k, rows);
+            if (after > broken) {
+                swap(rows, rowA, b, rowB, a);
+                return broken;
+            }
+            return after;
+        }
+
+        private void swap(long[] rows, int rowA, long a, int rowB, long b) {
+            rows[rowA] = (rows[rowA] & ~a) | b;
+            rows[rowB] = (rows[rowB] & ~b) | a;
+        }
+
+        private int rowOf(long[] rows, long bit) {
+            for (int row = 0; row <= seats; row++) {
+                if ((rows[row] & bit) != 0) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        private long typeOf(long bit) {
+            for (CardType type : CardType.values()) {
+                if ((k.getTypeMask(type) & bit) != 0) {
+                    return k.getTypeMask(type);
+                }
+            }
+            return 0L;
+        }
+
+        /*
+         * Deals the unknown cards at random: one envelope card per type,
+         * then each other card to a seat with room that may hold it.
+         * Constraints are left to the repair. Returns false on a dead end.
+         */
+        private boolean deal(long[] rows) {
+            int[] capacity = new int[seats];
+            for (int attempt = 0; attempt < MAX_DEAL_ATTEMPTS; attempt++) {
+                if (dealOnce(rows, capacity)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean dealOnce(long[] rows, int[] capacity) {
+            long free = k.getAllCards();
+            for (int row = 0; row <= seats; row++) {
+                rows[row] = k.getHas(row);
+                free &= ~rows[row];
+            }
+            for (int seat = 0; seat < seats; seat++) {
+                capacity[seat] = k.getHandSize(seat) - Long.bitCount(rows[seat]);
+            }
+            for (CardType type : CardType.values()) {
+                if ((rows[seats] & k.getTypeMask(type)) != 0) {
+                    continue;
+                }
+                long options = k.getTypeMask(type) & free & ~k.getLacks(seats);
+                if (options == 0) {
+                    return false;
+                }
+                long bit = nthBit(options, rand.nextInt(Long.bitCount(options)));
+                rows[seats] |= bit;
+                free &= ~bit;
+            }
+            while (free != 0) {
+                long bit = Long.lowestOneBit(free);
+                free &= ~bit;
+                int open = 0;
+                for (int seat = 0; seat < seats; seat++) {
+                    if (capacity[seat] > 0 && (k.getLacks(seat) & bit) == 0) {
+                        open++;
+                    }
+                }
+                if (open == 0) {
+                    return false;
+                }
+                int pick = rand.nextInt(open);
+                for (int seat = 0; seat < seats; seat++) {
+                    if (capacity[seat] > 0 && (k.getLacks(seat) & bit) == 0 && pick-- == 0) {
+                        rows[seat] |= bit;
+                        capacity[seat]--;
+                        break;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private static long nthBit(long mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Long.lowestOneBit(mask);
+    }
+}
@@ -30,6 +30,22 @@ public class Solution {
                java.util.Objects.equals(weapon, other.weapon);
     }
 
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hashCode(person) * 961
+                + java.util.Objects.hashCode(room) * 31
+                + java.util.Objects.hashCode(weapon);
+    }
+
+    // Bits of the three cards' registry ids
+    public long getCardMask() {
+        return person.getMask() | room.getMask() | weapon.getMask();
+    }
+
+    public boolean isRegistered() {
+        return person.getId() >= 0 && room.getId() >= 0 && weapon.getId() >= 0;
+    }
+
     public Card getPerson() {
         return person;
     }
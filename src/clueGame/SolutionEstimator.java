@@ -0,0 +1,24 @@
+/**
+ * Interface: SolutionEstimator
+ * Answers "how likely is this to be in the envelope" for a computer
+ * player, assuming every deal that fits what the player knows is equally
+ * likely. SamplingSolver estimates the answer; ExactSolver counts it.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+public interface SolutionEstimator {
+
+    // Chance the card with this registry id is in the envelope
+    double getProbability(int cardId);
+
+    // Chance the envelope is exactly this card mask, one bit per type
+    double getProbability(long solution);
+
+    // The likeliest envelope as a card mask, or 0 if nothing is known yet
+    long getMostLikelySolution();
+}
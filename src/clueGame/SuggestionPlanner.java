@@ -0,0 +1,259 @@
+/**
+ * Class: SuggestionPlanner
+ * Chooses the person and weapon a computer player suggests by how much
+ * the answer is expected to teach it about the envelope.
+ *
+ * The planner scores a suggestion over a set of sampled deals. In each
+ * deal the response is fixed: the first seat after ours holding one of
+ * the cards disproves, showing each of its matching cards with equal
+ * chance. The score is the mutual information between the response and
+ * the envelope, in bits: how much seeing the response is expected to
+ * narrow down the solution. Responses are indexed by (disprover, which of
+ * the three cards), so every tally is a short array over card bitmasks.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+public class SuggestionPlanner {
+    // Scores this close together count as a tie
+    private static final double TIE = 1e-9;
+
+    private final KnowledgeMatrix knowledge;
+    private final int seat;
+    private final List<long[]> deals;
+    private final int seats;
+    private final int[] typeIndex = new int[CardRegistry.MAX_CARDS];
+
+    // Deals are taken in envelope order; group g is deals groupStart[g]..groupStart[g + 1]-1
+    private final int[] groupStart;
+    /*
+     * position[card][k] is how many seats after ours the holder of the card
+     * sits in the k-th deal, or NOBODY if we hold it or it is in the envelope.
+     */
+    private final byte[][] position;
+    private static final byte NOBODY = Byte.MAX_VALUE;
+    // Sum over groups of size * log(SHARES * size), the same for every suggestion
+    private final double groupLogSum;
+    /*
+     * Response tallies reused for every suggestion scored. A deal counts
+     * SHARES, split evenly over the cards the disprover could show, so
+     * every tally is a whole number and n log n comes from a table.
+     */
+    private static final int SHARES = 6;
+    private final int[] groupTally;
+    private final int[] tally;
+    private final int[] touched;
+    private final double[] nLogN;
+
+    public SuggestionPlanner(KnowledgeMatrix knowledge, int seat, List<long[]> deals) {
+        this.knowledge = knowledge;
+        this.seat = seat;
+        this.deals = deals;
+        this.seats = knowledge.getSeats();
+        CardType[] types = CardType.values();
+        for (int t = 0; t < types.length; t++) {
+            for (long c = knowledge.getTypeMask(types[t]); c != 0; c &= c - 1) {
+                typeIndex[Long.numberOfTrailingZeros(c)] = t;
+            }
+        }
+
+        // Counting sort of the deals by which envelope they have
+        Map<Long, Integer> groups = new HashMap<>();
+        int[] group = new int[deals.size()];
+        for (int d = 0; d < deals.size(); d++) {
+            group[d] = groups.computeIfAbsent(deals.get(d)[seats], e -> groups.size());
+        }
+        groupStart = new int[groups.size() + 1];
+        for (int g : group) {
+            groupStart[g + 1]++;
+        }
+        for (int g = 0; g < groups.size(); g++) {
+            groupStart[g + 1] += groupStart[g];
+        }
+        int[] next = Arrays.copyOf(groupStart, groups.size());
+        position = new byte[CardRegistry.MAX_CARDS][];
+        for (long c = knowledge.getAllCards(); c != 0; c &= c - 1) {
+            position[Long.numberOfTrailingZeros(c)] = new byte[deals.size()];
+            Arrays.fill(position[Long.numberOfTrailingZeros(c)], NOBODY);
+        }
+        for (int d = 0; d < deals.size(); d++) {
+            int k = next[group[d]]++;
+            long[] rows = deals.get(d);
+            for (int i = 1; i < seats; i++) {
+                for (long c = rows[(seat + i) % seats]; c != 0; c &= c - 1) {
+                    position[Long.numberOfTrailingZeros(c)][k] = (byte) i;
+                }
+            }
+        }
+
+        double logSum = 0.0;
+        for (int g = 0; g < groups.size(); g++) {
+            int size = groupStart[g + 1] - groupStart[g];
+            logSum += size * Math.log((double) SHARES * size);
+        }
+        groupLogSum = logSum;
+
+        int responses = seats * types.length + 1;
+        groupTally = new int[responses];
+        tally = new int[responses];
+        touched = new int[responses];
+        nLogN = new double[SHARES * deals.size() + 1];
+        for (int n = 1; n < nLogN.length; n++) {
+            nLogN[n] = n * Math.log(n);
+        }
+    }
+
+    /*
+     * Expected bits learned about the envelope from suggesting this card
+     * mask: the entropy of the response less its average entropy once the
+     * envelope is known.
+     */
+    public double expectedGain(long suggestion) {
+        if (deals.isEmpty()) {
+            return 0.0;
+        }
+        int count = Long.bitCount(suggestion);
+        if (SHARES % count != 0) {
+            throw new IllegalArgumentException("A suggestion names one card of each type");
+        }
+        byte[][] holders = new byte[count][];
+        int[] responses = new int[count];
+        long c = suggestion;
+        for (int j = 0; j < count; j++, c &= c - 1) {
+            int id = Long.numberOfTrailingZeros(c);
+            holders[j] = position[id];
+            responses[j] = typeIndex[id] - CardType.values().length;
+        }
+        Arrays.fill(tally, 0);
+        // Sum of n log n over every group's tallies
+        double groupSum = 0.0;
+        for (int g = 0; g + 1 < groupStart.length; g++) {
+            int touchedCount = 0;
+            for (int k = groupStart[g]; k < groupStart[g + 1]; k++) {
+                touchedCount = respond(k, holders, responses, touchedCount);
+            }
+            for (int t = 0; t < touchedCount; t++) {
+                int response = touched[t];
+                groupSum += nLogN[groupTally[response]];
+                tally[response] += groupTally[response];
+                groupTally[response] = 0;
+            }
+        }
+        double total = (double) SHARES * deals.size();
+        double sum = 0.0;
+        for (int n : tally) {
+            sum += nLogN[n];
+        }
+        // H(response) - H(response | envelope), with H = log N - sum(n log n) / N for each tally
+        double nats = Math.log(total) - sum / total - (groupLogSum - groupSum / SHARES) / deals.size();
+        return Math.max(0.0, nats / Math.log(2));
+    }
+
+    /*
+     * Adds the k-th deal's response to the group tally. The first seat
+     * after ours holding a suggested card disproves, showing each of its
+     * matching cards with equal chance. responses[j] plus the disprover's
+     * distance times the number of types indexes the response showing card
+     * j. Returns the new count of touched responses.
+     */
+    private int respond(int k, byte[][] holders, int[] responses, int touchedCount) {
+        int first = NOBODY;
+        int shown = 0;
+        for (byte[] holder : holders) {
+            int at = holder[k];
+            if (at < first) {
+                first = at;
+                shown = 1;
+            } else if (at == first) {
+                shown++;
+            }
+        }
+        if (first == NOBODY) {
+            return tallyResponse(groupTally.length - 1, SHARES, touchedCount);
+        }
+        int share = SHARES / shown;
+        int offset = first * CardType.values().length;
+        for (int j = 0; j < holders.length; j++) {
+            if (holders[j][k] == first) {
+                touchedCount = tallyResponse(offset + responses[j], share, touchedCount);
+            }
+        }
+        return touchedCount;
+    }
+
+    private int tallyResponse(int response, int weight, int touchedCount) {
+        if (groupTally[response] == 0) {
+            touched[touchedCount++] = response;
+        }
+        groupTally[response] += weight;
+        return touchedCount;
+    }
+
+    /*
+     * The best-scoring suggestion in this room over every person and
+     * weapon, including ones this player holds. Ties are broken at random.
+     * Returns 0 if no pair is expected to teach anything.
+     */
+    public long bestSuggestion(long room, RandomGenerator rand) {
+        // Cards sitting in the same place in every deal score the same, so score each class once
+        int[] personClass = new int[CardRegistry.MAX_CARDS];
+        int[] weaponClass = new int[CardRegistry.MAX_CARDS];
+        int persons = classify(knowledge.getTypeMask(CardType.PERSON), personClass);
+        int weapons = classify(knowledge.getTypeMask(CardType.WEAPON), weaponClass);
+        double[][] gains = new double[persons][weapons];
+        for (double[] row : gains) {
+            Arrays.fill(row, Double.NaN);
+        }
+
+        long best = 0L;
+        double bestGain = 0.0;
+        int ties = 0;
+        for (long p = knowledge.getTypeMask(CardType.PERSON); p != 0; p &= p - 1) {
+            for (long w = knowledge.getTypeMask(CardType.WEAPON); w != 0; w &= w - 1) {
+                long suggestion = Long.lowestOneBit(p) | room | Long.lowestOneBit(w);
+                int pc = personClass[Long.numberOfTrailingZeros(p)];
+                int wc = weaponClass[Long.numberOfTrailingZeros(w)];
+                if (Double.isNaN(gains[pc][wc])) {
+                    gains[pc][wc] = expectedGain(suggestion);
+                }
+                double gain = gains[pc][wc];
+                if (gain > bestGain + TIE) {
+                    best = suggestion;
+                    bestGain = gain;
+                    ties = 1;
+                } else if (best != 0 && gain > bestGain - TIE && rand.nextInt(++ties) == 0) {
+                    best = suggestion;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Numbers the cards so ones with identical positions in every deal share a class
+    private int classify(long cards, int[] classOf) {
+        List<byte[]> seen = new ArrayList<>();
+        for (long c = cards; c != 0; c &= c - 1) {
+            int id = Long.numberOfTrailingZeros(c);
+            int match = 0;
+            while (match < seen.size() && !Arrays.equals(seen.get(match), position[id])) {
+                match++;
+            }
+            if (match == seen.size()) {
+                seen.add(position[id]);
+            }
+            classOf[id] = match;
+        }
+        return seen.size();
+    }
+}
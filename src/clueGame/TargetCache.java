@@ -0,0 +1,214 @@
+/**
+ * Class: TargetCache
+ * Bounded least-recently-used cache of target bitsets, keyed by start
+ * cell, roll and the board's occupancy key. Entries made under a
+ * different occupancy are never returned; they simply age out. Hit and
+ * miss counters are kept so the capacity can be sized from real games.
+ * All methods are synchronized so concurrent target queries can share it.
+ *
+ * The table is open-addressed over primitive arrays, with the recency
+ * order threaded through the entries by index. Entries and their bitsets
+ * are allocated once and reused on eviction, so once the cache is full
+ * neither lookups nor stores allocate.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.Arrays;
+
+public class TargetCache {
+    private final int capacity;
+    // Entry index + 1 for each slot, or 0 when the slot is empty
+    private final int[] table;
+    // Per entry: start cell and roll packed into one long, the occupancy key and the targets
+    private final long[] cellRolls;
+    private final long[] occupancyKeys;
+    private final long[][] bits;
+    // Recency list through the entries, least recently used at head
+    private final int[] prev;
+    private final int[] next;
+    private int head = -1;
+    private int tail = -1;
+    private int size = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public TargetCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        // At most half full, so probes stay short
+        this.table = new int[Integer.highestOneBit(capacity) << 2];
+        this.cellRolls = new long[capacity];
+        this.occupancyKeys = new long[capacity];
+        this.bits = new long[capacity][];
+        this.prev = new int[capacity];
+        this.next = new int[capacity];
+    }
+
+    /*
+     * Copies the cached targets into the given bitset and returns true, or
+     * returns false if they are not cached. The copy is made under the
+     * lock, since the entry may be reused by the next store.
+     */
+    synchronized boolean get(int startId, int pathLength, long occupancyKey, long[] into) {
+        int slot = find(pack(startId, pathLength), occupancyKey);
+        if (table[slot] == 0) {
+            misses++;
+            return false;
+        }
+        int entry = table[slot] - 1;
+        System.arraycopy(bits[entry], 0, into, 0, bits[entry].length);
+        touch(entry);
+        hits++;
+        return true;
+    }
+
+    synchronized void put(int startId, int pathLength, long occupancyKey, long[] targets) {
+        long cellRoll = pack(startId, pathLength);
+        int slot = find(cellRoll, occupancyKey);
+        int entry;
+        if (table[slot] != 0) {
+            entry = table[slot] - 1;
+            touch(entry);
+        } else {
+            if (size == capacity) {
+                entry = head;
+                unlink(entry);
+                remove(find(cellRolls[entry], occupancyKeys[entry]));
+                evictions++;
+                // Removing may have shifted the slot we found
+                slot = find(cellRoll, occupancyKey);
+            } else {
+                entry = size++;
+            }
+            cellRolls[entry] = cellRoll;
+            occupancyKeys[entry] = occupancyKey;
+            table[slot] = entry + 1;
+            append(entry);
+        }
+        if (bits[entry] == null || bits[entry].length != targets.length) {
+            bits[entry] = new long[targets.length];
+        }
+        System.arraycopy(targets, 0, bits[entry], 0, targets.length);
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(table, 0);
+        head = -1;
+        tail = -1;
+        size = 0;
+    }
+
+    private static long pack(int startId, int pathLength) {
+        return ((long) startId << 32) | (pathLength & 0xFFFFFFFFL);
+    }
+
+    private int home(long cellRoll, long occupancyKey) {
+        long h = (cellRoll * 31 + occupancyKey) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 29)) & (table.length - 1);
+    }
+
+    // The slot holding the key, or the empty slot where it would go
+    private int find(long cellRoll, long occupancyKey) {
+        int mask = table.length - 1;
+        int slot = home(cellRoll, occupancyKey);
+        while (table[slot] != 0) {
+            int entry = table[slot] - 1;
+            if (cellRolls[entry] == cellRoll && occupancyKeys[entry] == occupancyKey) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Empties a slot, shifting later entries of the probe run back so none is cut off
+    private void remove(int slot) {
+        int mask = table.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+            int entry = table[i] - 1;
+            int home = home(cellRolls[entry], occupancyKeys[entry]);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private void touch(int entry) {
+        if (entry != tail) {
+            unlink(entry);
+            append(entry);
+        }
+    }
+
+    private void unlink(int entry) {
+        if (prev[entry] >= 0) {
+            next[prev[entry]] = next[entry];
+        } else {
+            head = next[entry];
+        }
+        if (next[entry] >= 0) {
+            prev[next[entry]] = prev[entry];
+        } else {
+            tail = prev[entry];
+        }
+    }
+
+    private void append(int entry) {
+        prev[entry] = tail;
+        next[entry] = -1;
+        if (tail >= 0) {
+            next[tail] = entry;
+        } else {
+            head = entry;
+        }
+        tail = entry;
+    }
+
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("TargetCache[size=%d/%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d]",
+                size(), capacity, hits, misses, getHitRate() * 100, evictions);
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Class: TargetEngine
+ * Computes movement targets over the board's CSR adjacency arrays.
+ * Visited cells and the result are kept in long[] bitsets indexed by
+ * cell id, held in a caller-supplied TargetScratch that is reused across
+ * calls, so a target search allocates nothing. The engine itself only
+ * holds read-only layout data and is safe to share between threads.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.Arrays;
+
+final class TargetEngine {
+    private final BoardCell[] cells;
+    private final int[] adjOffsets;
+    private final int[] adjNeighbors;
+    // Board's live occupancy bits, updated as players move
+    private final long[] occupied;
+    // Room centers end a move; room cells may be entered even when occupied
+    private final long[] roomCenters;
+    private final long[] roomCells;
+
+    TargetEngine(BoardCell[] cells, int[] adjOffsets, int[] adjNeighbors, long[] occupied) {
+        this.cells = cells;
+        this.adjOffsets = adjOffsets;
+        this.adjNeighbors = adjNeighbors;
+        this.occupied = occupied;
+
+        int words = Bits.words(cells.length);
+        roomCenters = new long[words];
+        roomCells = new long[words];
+
+        for (int id = 0; id < cells.length; id++) {
+            BoardCell cell = cells[id];
+            if (cell.isRoomCenter()) {
+                Bits.set(roomCenters, id);
+            }
+            if (cell.isRoomCenter() || cell.isLabel() || cell.getInitial() != 'W') {
+                Bits.set(roomCells, id);
+            }
+        }
+    }
+
+    /*
+     * Returns the cells reachable from startId in exactly pathLength steps
+     * (or fewer when the path ends in a room center). Occupied walkway
+     * cells can be neither passed through nor landed on; rooms can hold
+     * any number of players. Returns the scratch's result array.
+     */
+    long[] calcTargets(int startId, int pathLength, TargetScratch scratch) {
+        long[] visited = scratch.visited;
+        long[] result = scratch.result;
+        Arrays.fill(result, 0L);
+        Bits.set(visited, startId);
+        findAllTargets(startId, pathLength, visited, result);
+        Bits.clear(visited, startId);
+        return result;
+    }
+
+    private void findAllTargets(int cellId, int stepsRemaining, long[] visited, long[] result) {
+        for (int i = adjOffsets[cellId]; i < adjOffsets[cellId + 1]; i++) {
+            int adjId = adjNeighbors[i];
+            if (Bits.get(visited, adjId)) {
+                continue;
+            }
+            if (Bits.get(occupied, adjId) && !Bits.get(roomCells, adjId)) {
+                continue;
+            }
+            if (stepsRemaining == 1 || Bits.get(roomCenters, adjId)) {
+                Bits.set(result, adjId);
+            } else {
+                Bits.set(visited, adjId);
+                findAllTargets(adjId, stepsRemaining - 1, visited, result);
+                Bits.clear(visited, adjId);
+            }
+        }
+    }
+}
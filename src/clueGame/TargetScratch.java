@@ -0,0 +1,58 @@
+/**
+ * Class: TargetScratch
+ * Working memory for one target search: visited and result bitsets, plus
+ * the layered state used by the bounded search. Each thread that queries
+ * targets concurrently needs its own scratch; one scratch can be reused
+ * for any number of queries on boards with the same number of cells.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+public final class TargetScratch {
+    final int numCells;
+    final int words;
+    final long[] visited;
+    final long[] result;
+
+    // Bounded search state, allocated the first time a long roll is searched
+    long[][] open;
+    long[] blocked;
+    long[] union;
+    long[][] layer;
+    long[][] nextLayer;
+    boolean[] layerUsed;
+    boolean[] nextUsed;
+
+    TargetScratch(int numCells) {
+        this.numCells = numCells;
+        this.words = Bits.words(numCells);
+        this.visited = new long[words];
+        this.result = new long[words];
+    }
+
+    void ensureBoundedState(int numStates) {
+        if (layer != null) {
+            return;
+        }
+        open = new long[4][words];
+        blocked = new long[words];
+        union = new long[words];
+        layer = new long[numStates][words];
+        nextLayer = new long[numStates][words];
+        layerUsed = new boolean[numStates];
+        nextUsed = new boolean[numStates];
+    }
+
+    boolean fits(int numCells) {
+        return this.numCells == numCells;
+    }
+
+    // Targets from the last search run with this scratch, indexed by cell id
+    public long[] getResult() {
+        return result;
+    }
+}
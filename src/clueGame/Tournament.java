@@ -0,0 +1,162 @@
+/**
+ * Class: Tournament
+ * Plays many computer-only games to completion with no user interface,
+ * spread across all cores with a fork-join pool. Every game gets its own
+ * Board, so workers share nothing but the result totals they merge at the
+ * end. Used to measure and tune the computer players.
+ *
+ * Game i is seeded with the i-th value drawn from a SplittableRandom built
+ * on the tournament seed. Every game's samplers run without a time budget
+ * on their game's own thread, and draw the same samples whatever the core
+ * count, so any single game can be replayed with playGame, on any machine.
+ *
+ * Usage: java clueGame.Tournament [games] [layout file] [setup file] [seed]
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class Tournament {
+    public static final int DEFAULT_MAX_TURNS = 1000;
+    // Games a worker plays itself instead of splitting further
+    private static final int GAMES_PER_TASK = 4;
+
+    private final String layoutConfigFile;
+    private final String setupConfigFile;
+    private int maxTurns = DEFAULT_MAX_TURNS;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long seed = new SplittableRandom().nextLong();
+
+    public Tournament(String layoutConfigFile, String setupConfigFile) {
+        this.layoutConfigFile = layoutConfigFile;
+        this.setupConfigFile = setupConfigFile;
+    }
+
+    // Turns after which a game is abandoned as unsolved
+    public void setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Seed of each game in a run of the given length
+    public long[] gameSeeds(int games) {
+        return new SplittableRandom(seed).longs(games).toArray();
+    }
+
+    public TournamentResult run(int games) {
+        List<String> seatNames = new ArrayList<>();
+        for (Player player : newGame(seed).getPlayers()) {
+            seatNames.add(player.getName());
+        }
+
+        long[] seeds = gameSeeds(games);
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        TournamentResult result;
+        try {
+            result = pool.invoke(new GamesTask(seatNames, seeds, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private Board newGame(long gameSeed) {
+        Board board = new Board();
+        board.setConfigFiles(layoutConfigFile, setupConfigFile);
+        board.setComputerOnly(true);
+        board.setSeed(gameSeed);
+        board.initialize();
+        // Games already run side by side, and a time budget would make them depend on load
+        for (Player player : board.getPlayers()) {
+            if (player instanceof ComputerPlayer && ((ComputerPlayer) player).getSolver() != null) {
+                SamplingSolver solver = ((ComputerPlayer) player).getSolver();
+                solver.setTimeBudgetNanos(0);
+                solver.setWorkers(1);
+            }
+        }
+        return board;
+    }
+
+    // Plays one game to the end (or the turn cap) and returns its board
+    public Board playGame(long gameSeed) {
+        Board board = newGame(gameSeed);
+        board.getEngine().playUntilGameOver(maxTurns);
+        return board;
+    }
+
+    // Plays one game and records who won it
+    private void playGame(long gameSeed, TournamentResult result) {
+        Board board = playGame(gameSeed);
+        GameEngine engine = board.getEngine();
+        Player winner = engine.getWinner();
+        int seat = winner == null ? -1 : board.getPlayers().indexOf(winner);
+        result.addGame(seat, engine.getTurnCount());
+    }
+
+    private class GamesTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> seatNames;
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+
+        GamesTask(List<String> seatNames, long[] seeds, int from, int to) {
+            this.seatNames = seatNames;
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                TournamentResult result = new TournamentResult(seatNames);
+                for (int game = from; game < to; game++) {
+                    playGame(seeds[game], result);
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            GamesTask left = new GamesTask(seatNames, seeds, from, mid);
+            left.fork();
+            TournamentResult right = new GamesTask(seatNames, seeds, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        String layout = args.length > 1 ? args[1] : "data/ClueLayout.csv";
+        String setup = args.length > 2 ? args[2] : "data/ClueSetup.txt";
+
+        Tournament tournament = new Tournament(layout, setup);
+        if (args.length > 3) {
+            tournament.setSeed(Long.parseLong(args[3]));
+        }
+        System.out.println("Seed " + tournament.getSeed());
+        System.out.println(tournament.run(games));
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Class: TournamentResult
+ * Totals from a batch of computer-only games: wins per seat, turns taken
+ * by the games that were solved, and how fast the batch ran. Partial
+ * results from parallel workers are merged with combine.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+
+package clueGame;
+
+import java.util.List;
+
+public class TournamentResult {
+    private final String[] seatNames;
+    private final int[] wins;
+    private int games = 0;
+    private int solved = 0;
+    private long solvedTurns = 0;
+    private long elapsedNanos = 0;
+
+    public TournamentResult(List<String> seatNames) {
+        this.seatNames = seatNames.toArray(new String[0]);
+        this.wins = new int[this.seatNames.length];
+    }
+
+    // Records one game; winnerSeat is -1 when nobody solved it
+    void addGame(int winnerSeat, int turns) {
+        games++;
+        if (winnerSeat >= 0) {
+            wins[winnerSeat]++;
+            solved++;
+            solvedTurns += turns;
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Adds another worker's games into this result
+    TournamentResult combine(TournamentResult other) {
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] += other.wins[seat];
+        }
+        games += other.games;
+        solved += other.solved;
+        solvedTurns += other.solvedTurns;
+        return this;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getSolvedGames() {
+        return solved;
+    }
+
+    public int getSeatCount() {
+        return seatNames.length;
+    }
+
+    public String getSeatName(int seat) {
+        return seatNames[seat];
+    }
+
+    public int getWins(int seat) {
+        return wins[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) wins[seat] / games;
+    }
+
+    // Average turns over the games that ended with a correct accusation
+    public double getAverageTurns() {
+        return solved == 0 ? 0.0 : (double) solvedTurns / solved;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games / getElapsedSeconds();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d games, %d solved, %.1f average turns to solve%n",
+                games, solved, getAverageTurns()));
+        for (int seat = 0; seat < seatNames.length; seat++) {
+            sb.append(String.format("  seat %d %-20s %6d wins  %5.1f%%%n",
+                    seat, seatNames[seat], wins[seat], 100 * getWinRate(seat)));
+        }
+        sb.append(String.format("%.2f s, %.1f games/s", getElapsedSeconds(), getGamesPerSecond()));
+        return sb.toString();
+    }
+}
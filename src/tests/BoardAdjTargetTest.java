@@ -5,7 +5,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -261,4 +264,106 @@ public class BoardAdjTargetTest {
         assertTrue(targets.contains(destinationCenter));
     }
 
+    // Bitset targets agree with the set returned by calcTargets: (13,13), (8,2)
+    @Test
+    public void testTargetBitsMatchTargets() {
+        BoardCell[] starts = { board.getCell(13, 13), board.getCell(8, 2) };
+        for (BoardCell start : starts) {
+            for (int roll = 1; roll <= 6; roll++) {
+                Set<BoardCell> targets = board.calcTargets(start, roll);
+                long[] bits = board.calcTargetBits(start.getRow(), start.getColumn(), roll);
+
+                int count = 0;
+                for (long word : bits) {
+                    count += Long.bitCount(word);
+                }
+                assertEquals(targets.size(), count);
+                for (BoardCell cell : targets) {
+                    int id = board.getCellId(cell);
+                    assertTrue((bits[id >>> 6] & (1L << id)) != 0);
+                    assertSame(cell, board.getCellById(id));
+                }
+            }
+        }
+    }
+
+    // A player standing on a walkway blocks paths through it: (4,8)
+    @Test
+    public void testPlayerOccupancyBlocksPath() {
+        Player player = board.getPlayers().get(0);
+        BoardCell home = board.getCell(player.getRow(), player.getColumn());
+
+        player.moveTo(board.getCell(4, 8));
+        assertTrue(board.isCellOccupied(4, 8));
+        assertFalse(board.isCellOccupied(home.getRow(), home.getColumn()));
+        Set<BoardCell> targets = board.calcTargets(4, 7, 2);
+        assertFalse(targets.contains(board.getCell(4, 8)));
+        assertFalse(targets.contains(board.getCell(4, 9)));
+
+        player.moveTo(home);
+        assertFalse(board.isCellOccupied(4, 8));
+        assertTrue(board.calcTargets(4, 7, 2).contains(board.getCell(4, 9)));
+    }
+
+    // Repeated queries hit the cache; changing occupancy never returns stale targets
+    @Test
+    public void testTargetCache() {
+        TargetCache cache = board.getTargetCache();
+        Set<BoardCell> first = board.calcTargets(4, 5, 2);
+        long hits = cache.getHits();
+        assertEquals(first, board.calcTargets(4, 5, 2));
+        assertEquals(hits + 1, cache.getHits());
+
+        board.getCell(4, 7).setOccupied(true);
+        assertFalse(board.calcTargets(4, 5, 2).contains(board.getCell(4, 7)));
+        board.getCell(4, 7).setOccupied(false);
+
+        // Same occupancy as the first query, so it is served from the cache again
+        hits = cache.getHits();
+        assertEquals(first, board.calcTargets(4, 5, 2));
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    // A cache far smaller than the board keeps evicting, and never returns the wrong targets
+    @Test
+    public void testSmallTargetCacheEvicts() {
+        Board small = new Board();
+        small.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        small.initialize();
+        int numCells = small.getNumRows() * small.getNumColumns();
+        List<Set<BoardCell>> expected = new ArrayList<>();
+        small.setTargetCacheSize(0);
+        for (int id = 0; id < numCells; id++) {
+            expected.add(small.calcTargets(small.getCellById(id), 3));
+        }
+
+        small.setTargetCacheSize(8);
+        TargetCache cache = small.getTargetCache();
+        for (int pass = 0; pass < 2; pass++) {
+            for (int id = 0; id < numCells; id++) {
+                assertEquals(expected.get(id), small.calcTargets(small.getCellById(id), 3));
+                assertEquals(expected.get(id), small.calcTargets(small.getCellById(id), 3));
+            }
+        }
+        assertEquals(8, cache.size());
+        assertEquals(2L * numCells, cache.getHits());
+        assertEquals(2L * numCells - 8, cache.getEvictions());
+    }
+
+    // Concurrent stateless queries agree with the single-threaded API
+    @Test
+    public void testConcurrentFindTargets() {
+        int numCells = board.getNumRows() * board.getNumColumns();
+        List<Set<BoardCell>> expected = new ArrayList<>();
+        for (int id = 0; id < numCells; id++) {
+            BoardCell cell = board.getCellById(id);
+            expected.add(board.calcTargets(cell, 4));
+        }
+
+        IntStream.range(0, numCells * 4).parallel().forEach(i -> {
+            BoardCell cell = board.getCellById(i % numCells);
+            assertEquals(expected.get(i % numCells), board.findTargets(cell.getRow(), cell.getColumn(), 4));
+        });
+    }
+
 }
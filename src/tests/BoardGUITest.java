@@ -0,0 +1,88 @@
+/**
+ * Class: BoardGUITest
+ * Unit tests for the board view's zoom levels and the mapping from mouse
+ * clicks back to board cells.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Point;
+
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class BoardGUITest {
+
+    private Board newBoard() {
+        Board board = new Board();
+        board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        board.setSeed(1);
+        board.initialize();
+        return board;
+    }
+
+    @Test
+    public void testZoomStopsAtLimits() {
+        BoardGUI gui = new BoardGUI(newBoard());
+        assertEquals(30, gui.getCellSize());
+        gui.zoom(100, new Point(0, 0));
+        int largest = gui.getCellSize();
+        assertTrue(largest > 30);
+        gui.zoom(1, new Point(0, 0));
+        assertEquals(largest, gui.getCellSize());
+        gui.zoom(-100, new Point(0, 0));
+        assertTrue(gui.getCellSize() < 30);
+        assertEquals(gui.getCellSize() * 24, gui.getPreferredSize().width);
+    }
+
+    // A click on the far corner of a target moves the human there at every zoom level
+    @Test
+    public void testClickMapsToCellAtEveryZoom() {
+        for (int steps = -4; steps <= 2; steps++) {
+            Board board = newBoard();
+            BoardGUI gui = new BoardGUI(board);
+            gui.zoom(steps, new Point(0, 0));
+            int size = gui.getCellSize();
+
+            assertTrue(board.getEngine().nextTurn());
+            assertTrue(board.isHumanMustFinish());
+            BoardCell target = board.getTargets().iterator().next();
+            gui.handleBoardClick(target.getColumn() * size + size - 1, target.getRow() * size + size - 1);
+
+            Player human = board.getPlayers().get(0);
+            assertFalse(board.isHumanMustFinish());
+            assertEquals(target.getRow(), human.getRow());
+            assertEquals(target.getColumn(), human.getColumn());
+        }
+    }
+
+    // Clicks off the board are ignored
+    @Test
+    public void testClickOutsideBoard() {
+        Board board = newBoard();
+        BoardGUI gui = new BoardGUI(board);
+        assertTrue(board.getEngine().nextTurn());
+        gui.handleBoardClick(-1, 5);
+        gui.handleBoardClick(5, 30 * 21);
+        assertTrue(board.isHumanMustFinish());
+    }
+
+    // A player added without a new deal makes the next snapshot redraw everything
+    @Test
+    public void testAddedPlayerRedraws() {
+        Board board = newBoard();
+        board.setBoardGUI(new BoardGUI(board));
+        RenderSnapshot before = board.getEngine().getSnapshot();
+        board.getPlayers().add(new ComputerPlayer("Extra", "red", 0, 0));
+        assertTrue(board.getEngine().nextTurn());
+        RenderSnapshot after = board.getEngine().getSnapshot();
+        assertEquals(before.getPlayerCount() + 1, after.getPlayerCount());
+        assertFalse(after.isSameGame(before));
+    }
+}
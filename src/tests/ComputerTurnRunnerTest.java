@@ -0,0 +1,188 @@
+/**
+ * Class: ComputerTurnRunnerTest
+ * Unit tests for playing computer turns on a worker thread, with results
+ * applied back on the Event Dispatch Thread.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class ComputerTurnRunnerTest {
+    private Board newBoard(String setup, long seed) {
+        Board board = new Board();
+        board.setConfigFiles("data/ClueLayout.csv", setup);
+        board.setComputerOnly(true);
+        board.setSeed(seed);
+        board.initialize();
+        return board;
+    }
+
+    // Plays one turn through the runner and waits on the Event Dispatch Thread for it to finish
+    private void playTurn(ComputerTurnRunner runner) throws Exception {
+        runner.nextTurn();
+        long giveUp = System.nanoTime() + 10_000_000_000L;
+        boolean[] thinking = {true};
+        while (thinking[0]) {
+            assertTrue(System.nanoTime() < giveUp, "turn never finished");
+            SwingUtilities.invokeAndWait(() -> thinking[0] = runner.isThinking());
+        }
+    }
+
+    // Records whether every event arrived on the Event Dispatch Thread
+    private static class ThreadCheck implements GameListener {
+        volatile int events = 0;
+        volatile boolean offEventThread = false;
+
+        private void check() {
+            events++;
+            if (!SwingUtilities.isEventDispatchThread()) {
+                offEventThread = true;
+            }
+        }
+
+        @Override
+        public void turnStarted(Player player, int roll) {
+            check();
+        }
+
+        @Override
+        public void playerMoved(Player player, BoardCell destination) {
+            check();
+        }
+
+        @Override
+        public void suggestionMade(Player suggester, Solution suggestion, Player disprover, Card shownCard) {
+            check();
+        }
+    }
+
+    @Test
+    public void testGamePlaysOnEventThread() throws Exception {
+        Board board = newBoard("data/ClueSetup.txt", 3);
+        ComputerTurnRunner runner = new ComputerTurnRunner(board);
+        ThreadCheck check = new ThreadCheck();
+        board.getEngine().addListener(check);
+        try {
+            for (int i = 0; i < 60 && !board.isGameOver(); i++) {
+                playTurn(runner);
+            }
+            assertTrue(board.getEngine().getTurnCount() > 0);
+            assertTrue(check.events > 0);
+            assertFalse(check.offEventThread);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    // A player that would think forever is cut off by the deadline and the turn still finishes
+    @Test
+    public void testDeadlineStopsThinking() throws Exception {
+        Board board = newBoard("data/ClueSetup.txt", 2);
+        Player seated = board.getPlayers().get(1);
+        boolean[] interrupted = {false};
+        ComputerPlayer slow = new ComputerPlayer(seated.getName(), "red", seated.getRow(), seated.getColumn()) {
+            @Override
+            public BoardCell selectTarget(Set<BoardCell> targets) {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.onSpinWait();
+                }
+                interrupted[0] = true;
+                return null;
+            }
+        };
+        board.getPlayers().set(1, slow);
+        ComputerTurnRunner runner = new ComputerTurnRunner(board);
+        runner.setDeadlineMillis(100);
+        try {
+            playTurn(runner);
+            playTurn(runner);
+            assertSame(slow, board.getCurrentPlayer());
+            assertEquals(2, board.getEngine().getTurnCount());
+            assertTrue(interrupted[0]);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    // Records computer decisions that failed
+    private static class FailureCheck implements GameListener {
+        final List<Throwable> errors = new ArrayList<>();
+        volatile boolean offEventThread = false;
+
+        @Override
+        public void computerTurnFailed(Player player, Throwable error) {
+            errors.add(error);
+            if (!SwingUtilities.isEventDispatchThread()) {
+                offEventThread = true;
+            }
+        }
+    }
+
+    // A player whose move throws is reported to listeners and moved at random instead
+    @Test
+    public void testFailureReported() throws Exception {
+        Board board = newBoard("data/ClueSetup.txt", 3);
+        Player seated = board.getPlayers().get(1);
+        IllegalStateException thrown = new IllegalStateException("no move");
+        ComputerPlayer broken = new ComputerPlayer(seated.getName(), "red", seated.getRow(), seated.getColumn()) {
+            @Override
+            public BoardCell selectTarget(Set<BoardCell> targets) {
+                throw thrown;
+            }
+        };
+        board.getPlayers().set(1, broken);
+        ComputerTurnRunner runner = new ComputerTurnRunner(board);
+        FailureCheck check = new FailureCheck();
+        board.getEngine().addListener(check);
+        try {
+            playTurn(runner);
+            playTurn(runner);
+            assertSame(broken, board.getCurrentPlayer());
+            assertFalse(check.errors.isEmpty());
+            assertSame(thrown, check.errors.get(0));
+            assertFalse(check.offEventThread);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    // An error from a decision, not just an exception, still finishes the turn
+    @Test
+    public void testErrorReported() throws Exception {
+        Board board = newBoard("data/ClueSetup.txt", 3);
+        Player seated = board.getPlayers().get(1);
+        StackOverflowError thrown = new StackOverflowError();
+        ComputerPlayer broken = new ComputerPlayer(seated.getName(), "red", seated.getRow(), seated.getColumn()) {
+            @Override
+            public BoardCell selectTarget(Set<BoardCell> targets) {
+                throw thrown;
+            }
+        };
+        board.getPlayers().set(1, broken);
+        ComputerTurnRunner runner = new ComputerTurnRunner(board);
+        FailureCheck check = new FailureCheck();
+        board.getEngine().addListener(check);
+        try {
+            playTurn(runner);
+            playTurn(runner);
+            assertSame(broken, board.getCurrentPlayer());
+            assertSame(thrown, check.errors.get(0));
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Class: DistanceFieldsTest
+ * Unit tests for the precomputed room distances and the computer players'
+ * goal-directed choice of target.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class DistanceFieldsTest {
+    private static Board board;
+
+    @BeforeAll
+    public static void setUp() {
+        board = new Board();
+        board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        board.initialize();
+    }
+
+    // Center, door, then the walkway beyond the door
+    @Test
+    public void testStepsIntoRoom() {
+        assertEquals(0, board.getRoomDistance('D', board.getCell(1, 3)));
+        assertEquals(1, board.getRoomDistance('D', board.getCell(3, 5)));
+        assertEquals(2, board.getRoomDistance('D', board.getCell(4, 5)));
+        assertEquals(3, board.getRoomDistance('D', board.getCell(5, 5)));
+    }
+
+    // The secret passage from the Sith Temple is a single step
+    @Test
+    public void testSecretPassage() {
+        assertEquals(1, board.getRoomDistance('I', board.getCell(4, 23)));
+        assertEquals(1, board.getRoomDistance('S', board.getCell(17, 3)));
+    }
+
+    @Test
+    public void testUnusedCellsAreUnreachable() {
+        assertEquals(Integer.MAX_VALUE, board.getRoomDistance('D', board.getCell(0, 5)));
+    }
+
+    // Every room is unseen to a fresh computer, so it steps toward the nearest one
+    @Test
+    public void testComputerHeadsForNearestRoom() {
+        ComputerPlayer cpu = new ComputerPlayer("Test", "red", 4, 5);
+        BoardCell door = board.getCell(3, 5);
+        BoardCell walkway = board.getCell(5, 10);
+        int walkwayBest = Integer.MAX_VALUE;
+        for (char initial : board.getRoomMap().keySet()) {
+            walkwayBest = Math.min(walkwayBest, board.getRoomDistance(initial, walkway));
+        }
+        assertTrue(walkwayBest > 1);
+
+        Set<BoardCell> targets = new LinkedHashSet<>();
+        targets.add(walkway);
+        targets.add(door);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(door, cpu.selectTarget(targets));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Class: ExactSolverTest
+ * Unit tests for the solver that counts every deal consistent with a
+ * computer player's knowledge, on a tiny deck that can be checked by hand.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class ExactSolverTest {
+    private CardRegistry cards;
+    private Card p0, p1, r0, r1, w0, w1;
+    private KnowledgeMatrix knowledge;
+
+    // Six cards: three go in the envelope, two to seat 0 and one to seat 1
+    @BeforeEach
+    public void setUp() {
+        cards = new CardRegistry();
+        p0 = cards.register("Yoda", CardType.PERSON);
+        p1 = cards.register("Han Solo", CardType.PERSON);
+        r0 = cards.register("Sith Temple", CardType.ROOM);
+        r1 = cards.register("Cantina", CardType.ROOM);
+        w0 = cards.register("Blaster", CardType.WEAPON);
+        w1 = cards.register("Lightsaber", CardType.WEAPON);
+        knowledge = new KnowledgeMatrix(cards, new int[] { 2, 1 });
+    }
+
+    // With nothing known every triple has the same three deals
+    @Test
+    public void testUniformWithoutEvidence() {
+        ExactSolver solver = new ExactSolver(knowledge);
+        assertTrue(solver.isApplicable());
+        assertEquals(24, solver.getTotalDeals());
+        assertEquals(8, solver.getPossibleTriples());
+        assertEquals(0.5, solver.getProbability(p0.getId()), 1e-12);
+        assertEquals(0.125, solver.getProbability(p1.getMask() | r1.getMask() | w1.getMask()), 1e-12);
+        assertFalse(solver.isCertain());
+    }
+
+    /*
+     * Seat 1 showed seat 0 one of Yoda, Sith Temple and Blaster. A triple
+     * leaving k of those out of the envelope has k deals, 12 in all.
+     */
+    @Test
+    public void testConstraintWeightsTriples() {
+        ExactSolver solver = new ExactSolver(knowledge);
+        knowledge.recordSuggestion(0, p0.getMask() | r0.getMask() | w0.getMask(), 1, -1);
+        assertEquals(12, solver.getTotalDeals());
+        assertEquals(7, solver.getPossibleTriples());
+        assertEquals(1.0 / 3, solver.getProbability(p0.getId()), 1e-12);
+        assertEquals(2.0 / 3, solver.getProbability(p1.getId()), 1e-12);
+        assertEquals(0.25, solver.getProbability(p1.getMask() | r1.getMask() | w1.getMask()), 1e-12);
+        assertEquals(p1.getMask() | r1.getMask() | w1.getMask(), solver.getMostLikelySolution());
+    }
+
+    // Counting finds the answer when the matrix's rules alone have not
+    @Test
+    public void testCertainBeforePropagationSolves() {
+        ExactSolver solver = new ExactSolver(knowledge);
+        knowledge.recordHand(1, r1.getMask());
+        knowledge.recordSuggestion(1, p0.getMask() | r0.getMask() | w0.getMask(), 0, -1);
+        knowledge.recordSuggestion(1, p1.getMask() | r0.getMask() | w0.getMask(), 0, -1);
+        knowledge.recordWrongAccusation(p1.getMask() | r0.getMask() | w1.getMask());
+        assertFalse(knowledge.isSolved());
+        assertTrue(solver.isCertain());
+        assertEquals(p0.getMask() | r0.getMask() | w1.getMask(), solver.getMostLikelySolution());
+        assertEquals(1.0, solver.getProbability(solver.getMostLikelySolution()));
+    }
+
+    // Too many triples left switches counting off
+    @Test
+    public void testTripleLimit() {
+        ExactSolver solver = new ExactSolver(knowledge);
+        solver.setTripleLimit(4);
+        assertFalse(solver.isApplicable());
+        assertEquals(0, solver.getTotalDeals());
+        knowledge.recordNotSolution(p0.getId());
+        assertTrue(solver.isApplicable());
+        assertEquals(4, solver.getPossibleTriples());
+    }
+
+    // An interrupted count reports no deals and is redone once the interrupt is cleared
+    @Test
+    public void testInterruptedSolveCountsAgain() {
+        ExactSolver solver = new ExactSolver(knowledge);
+        Thread.currentThread().interrupt();
+        try {
+            assertEquals(0, solver.getTotalDeals());
+            assertFalse(solver.isCertain());
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(24, solver.getTotalDeals());
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Class: GameEngineTest
+ * Plays games through the GameEngine with no user interface attached and
+ * checks what the listeners are told along the way.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class GameEngineTest {
+    private Board board;
+    private GameEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        board = Board.getInstance();
+        board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        board.initialize();
+        engine = board.getEngine();
+    }
+
+    // Records the events the engine reports
+    private static class Recorder implements GameListener {
+        int turns = 0;
+        int moves = 0;
+        final List<String> rejected = new ArrayList<>();
+        boolean over = false;
+
+        @Override
+        public void turnStarted(Player player, int roll) {
+            turns++;
+        }
+
+        @Override
+        public void playerMoved(Player player, BoardCell destination) {
+            moves++;
+        }
+
+        @Override
+        public void actionRejected(String message) {
+            rejected.add(message);
+        }
+
+        @Override
+        public void gameOver(Player winner) {
+            over = true;
+        }
+    }
+
+    // The human stops the engine until they move, and ending the turn early is refused
+    @Test
+    public void testHumanMustMove() {
+        Recorder recorder = new Recorder();
+        engine.addListener(recorder);
+        try {
+            Player human = board.getPlayers().get(0);
+            assertTrue(human instanceof HumanPlayer);
+
+            assertTrue(engine.nextTurn());
+            assertSame(human, engine.getCurrentPlayer());
+            assertTrue(engine.isHumanMustFinish());
+            assertFalse(engine.nextTurn());
+            assertEquals(1, recorder.rejected.size());
+
+            BoardCell target = board.getTargets().iterator().next();
+            assertTrue(engine.moveHuman(target));
+            assertFalse(engine.isHumanMustFinish());
+            assertEquals(target.getRow(), human.getRow());
+            assertEquals(target.getColumn(), human.getColumn());
+            assertFalse(target.isHighlighted());
+        } finally {
+            engine.removeListener(recorder);
+        }
+    }
+
+    // Highlighting new targets clears the old ones, and clearing leaves none
+    @Test
+    public void testHighlightsReplaced() {
+        BoardCell first = board.getCell(5, 5);
+        BoardCell second = board.getCell(5, 10);
+        board.highlightTargets(Set.of(first));
+        board.highlightTargets(Set.of(second));
+        assertFalse(first.isHighlighted());
+        assertTrue(second.isHighlighted());
+        board.clearHighlights();
+        assertFalse(second.isHighlighted());
+    }
+
+    // Each change publishes a new snapshot and leaves earlier ones as they were
+    @Test
+    public void testSnapshotsPublished() {
+        RenderSnapshot dealt = engine.getSnapshot();
+        assertEquals(board.getPlayers().size(), dealt.getPlayerCount());
+        assertEquals(0, dealt.getTargetCount());
+
+        assertTrue(engine.nextTurn());
+        RenderSnapshot rolled = engine.getSnapshot();
+        assertEquals(board.getTargets().size(), rolled.getTargetCount());
+        for (int i = 0; i < rolled.getTargetCount(); i++) {
+            assertTrue(board.isTarget(board.getCell(rolled.getTargetRow(i), rolled.getTargetColumn(i))));
+        }
+
+        Player human = board.getPlayers().get(0);
+        int row = human.getRow();
+        int col = human.getColumn();
+        BoardCell target = board.getTargets().iterator().next();
+        assertTrue(engine.moveHuman(target));
+        RenderSnapshot moved = engine.getSnapshot();
+        assertEquals(0, moved.getTargetCount());
+        assertEquals(target.getRow(), moved.getPlayerRow(0));
+        assertEquals(target.getColumn(), moved.getPlayerColumn(0));
+        assertEquals(row, rolled.getPlayerRow(0));
+        assertEquals(col, rolled.getPlayerColumn(0));
+        assertTrue(rolled.getTargetCount() > 0);
+        assertTrue(moved.isSameGame(dealt));
+    }
+
+    // Dealing again starts a new game even with the same players, so views redraw everything
+    @Test
+    public void testNewDealIsNewGame() {
+        RenderSnapshot first = engine.getSnapshot();
+        board.initialize();
+        RenderSnapshot second = engine.getSnapshot();
+        assertEquals(first.getPlayerCount(), second.getPlayerCount());
+        assertFalse(second.isSameGame(first));
+        assertFalse(second.isSameGame(RenderSnapshot.EMPTY));
+    }
+
+    // A whole game runs headless, with the human always taking the first target
+    @Test
+    public void testHeadlessGame() {
+        Recorder recorder = new Recorder();
+        engine.addListener(recorder);
+        try {
+            while (!engine.isGameOver() && engine.getTurnCount() < 2000) {
+                engine.playUntilGameOver(2000 - engine.getTurnCount());
+                if (engine.isHumanMustFinish()) {
+                    if (board.getTargets().isEmpty()) {
+                        engine.setHumanMustFinish(false);
+                    } else {
+                        engine.moveHuman(board.getTargets().iterator().next());
+                    }
+                }
+            }
+            assertTrue(recorder.turns > 0);
+            assertTrue(recorder.moves > 0);
+            assertEquals(engine.getTurnCount(), recorder.turns);
+            assertEquals(engine.isGameOver(), recorder.over);
+            assertTrue(recorder.rejected.isEmpty());
+        } finally {
+            engine.removeListener(recorder);
+        }
+    }
+
+    // Separately constructed boards share no game state
+    @Test
+    public void testIndependentBoards() {
+        Board first = new Board();
+        Board second = new Board();
+        assertNotSame(board, first);
+        for (Board b : List.of(first, second)) {
+            b.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+            b.initialize();
+        }
+        assertNotSame(first.getCell(0, 0), second.getCell(0, 0));
+        assertNotSame(first.getPlayers().get(0), second.getPlayers().get(0));
+
+        Player moved = first.getPlayers().get(1);
+        Player other = second.getPlayers().get(1);
+        int row = other.getRow();
+        int col = other.getColumn();
+        first.getEngine().nextTurn();
+        first.getEngine().moveHuman(first.getTargets().iterator().next());
+        first.getEngine().nextTurn();
+
+        assertEquals(row, other.getRow());
+        assertEquals(col, other.getColumn());
+        assertSame(first, moved.getBoard());
+        assertEquals(0, second.getEngine().getTurnCount());
+        assertEquals(2, first.getEngine().getTurnCount());
+    }
+}
@@ -103,6 +103,38 @@ public class GameSetupTests {
         assertTrue(cards.contains(new Card("Mos Eisley Cantina", CardType.ROOM)));
     }
 
+    @Test
+    public void testCardRegistry() {
+        CardRegistry registry = board.getCardRegistry();
+        assertEquals(21, registry.size());
+        for (int id = 0; id < registry.size(); id++) {
+            assertEquals(id, registry.get(id).getId());
+            assertSame(registry.get(id), board.getCard(id));
+        }
+
+        Card lightsaber = registry.find("lightsaber", CardType.WEAPON);
+        assertNotNull(lightsaber);
+        assertSame(lightsaber, registry.register("Lightsaber", CardType.WEAPON));
+        assertEquals(21, registry.size());
+        assertEquals(new Card("Lightsaber", CardType.WEAPON), lightsaber);
+        assertEquals(new Card("Lightsaber", CardType.WEAPON).hashCode(), lightsaber.hashCode());
+        assertNull(registry.find("Lightsaber", CardType.PERSON));
+        assertEquals(6, registry.getCards(CardType.WEAPON).size());
+    }
+
+    // Every card can be named, including the ones in the solution
+    @Test
+    public void testSolutionFromStrings() {
+        Solution answer = board.getSolution();
+        Solution named = board.createSolutionFromStrings(
+                answer.person.getName(), answer.weapon.getName(), answer.room.getName());
+        assertSame(answer.person, named.person);
+        assertSame(answer.weapon, named.weapon);
+        assertSame(answer.room, named.room);
+        assertTrue(board.checkAccusation(named));
+        assertTrue(board.getWeaponNames().contains(answer.weapon.getName()));
+    }
+
     // === SOLUTION TEST ===
 
     @Test
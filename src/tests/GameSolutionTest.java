@@ -173,4 +173,52 @@ public class GameSolutionTest {
         assertEquals(vader, board.handleSuggestion(suggester, suggestion));
     }
 
+    // Holders after the suggester come first, then the search wraps to the start
+    @Test
+    public void testFindDisproverWrapsAround() {
+        clearAllHands();
+        List<Player> players = board.getPlayers();
+        Player suggester = players.get(3);
+        players.get(1).addCard(detonator);
+        players.get(4).addCard(vader);
+        Solution suggestion = new Solution(vader, cantina, detonator);
+        assertSame(players.get(4), board.findDisprover(suggester, suggestion));
+
+        players.get(4).getHand().clear();
+        assertSame(players.get(1), board.findDisprover(suggester, suggestion));
+        assertEquals(detonator, board.handleSuggestion(suggester, suggestion));
+    }
+
+    // On a dealt game the holder index agrees with asking each player in turn
+    @Test
+    public void testFindDisproverMatchesHands() {
+        Board game = new Board();
+        game.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        game.initialize();
+        CardRegistry cards = game.getCardRegistry();
+        List<Player> players = game.getPlayers();
+
+        for (Card person : cards.getCards(CardType.PERSON)) {
+            for (Card room : cards.getCards(CardType.ROOM)) {
+                for (Card weapon : cards.getCards(CardType.WEAPON)) {
+                    Solution suggestion = new Solution(person, room, weapon);
+                    for (int s = 0; s < players.size(); s++) {
+                        Player expected = null;
+                        for (int i = 1; i < players.size() && expected == null; i++) {
+                            Player p = players.get((s + i) % players.size());
+                            List<Card> hand = p.getHand();
+                            if (hand.contains(person) || hand.contains(room) || hand.contains(weapon)) {
+                                expected = p;
+                            }
+                        }
+                        Player disprover = game.findDisprover(players.get(s), suggestion);
+                        assertSame(expected, disprover);
+                        if (disprover != null) {
+                            assertTrue(disprover.getHand().contains(disprover.disproveSuggestion(suggestion)));
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
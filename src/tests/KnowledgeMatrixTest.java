@@ -0,0 +1,121 @@
+/**
+ * Class: KnowledgeMatrixTest
+ * Unit tests for the computer players' deduction engine: facts from
+ * suggestions, constraint propagation, and accusing once solved.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class KnowledgeMatrixTest {
+    private Board board;
+    private CardRegistry cards;
+
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        board.setComputerOnly(true);
+        board.initialize();
+        cards = board.getCardRegistry();
+    }
+
+    private long mask(String... names) {
+        long mask = 0L;
+        for (String name : names) {
+            for (CardType type : CardType.values()) {
+                Card card = cards.find(name, type);
+                if (card != null) {
+                    mask |= card.getMask();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private KnowledgeMatrix newMatrix() {
+        return new KnowledgeMatrix(cards, new int[] { 3, 3, 3, 3, 3, 3 });
+    }
+
+    // Nobody, including us, holds the three cards, so they must be the solution
+    @Test
+    public void testUndisprovedSuggestionSolves() {
+        KnowledgeMatrix k = newMatrix();
+        long suggestion = mask("Yoda", "Sith Temple", "Blaster");
+        k.recordHand(0, mask("Luke Skywalker", "Lightsaber", "Trash Compactor"));
+        assertFalse(k.isSolved());
+
+        k.recordSuggestion(0, suggestion, -1, -1);
+        assertTrue(k.isConsistent());
+        assertTrue(k.isSolved());
+        assertEquals(suggestion, k.getSolutionMask());
+        assertEquals(1, k.countCandidateTriples());
+    }
+
+    // Passing players lack the cards, and the disprover's constraint narrows to one card
+    @Test
+    public void testConstraintNarrowsToOneCard() {
+        KnowledgeMatrix k = newMatrix();
+        long suggestion = mask("Yoda", "Sith Temple", "Blaster");
+        k.recordSuggestion(0, suggestion, 3, -1);
+        assertEquals(suggestion, k.getLacks(1) & suggestion);
+        assertEquals(suggestion, k.getLacks(2) & suggestion);
+        assertEquals(0L, k.getHas(3));
+        assertEquals(1, k.getConstraintCount());
+
+        k.recordHolds(4, cards.find("Yoda", CardType.PERSON).getId());
+        k.recordHolds(5, cards.find("Blaster", CardType.WEAPON).getId());
+        assertEquals(mask("Sith Temple"), k.getHas(3));
+        assertEquals(0, k.getConstraintCount());
+        assertFalse(k.isSolutionCandidate(cards.find("Sith Temple", CardType.ROOM).getId()));
+    }
+
+    // A player whose known cards fill their hand holds nothing else
+    @Test
+    public void testHandSizeLimit() {
+        KnowledgeMatrix k = newMatrix();
+        k.recordHolds(2, cards.find("Yoda", CardType.PERSON).getId());
+        k.recordHolds(2, cards.find("Sith Temple", CardType.ROOM).getId());
+        assertNotEquals(k.getAllCards() & ~k.getHas(2), k.getLacks(2));
+        k.recordHolds(2, cards.find("Blaster", CardType.WEAPON).getId());
+        assertEquals(3, Long.bitCount(k.getHas(2)));
+        assertEquals(k.getAllCards() & ~k.getHas(2), k.getLacks(2));
+    }
+
+    // Only one weapon left that nobody could hold means it is in the envelope
+    @Test
+    public void testLastCandidateOfATypeIsSolution() {
+        KnowledgeMatrix k = newMatrix();
+        List<Card> weapons = cards.getCards(CardType.WEAPON);
+        for (int i = 1; i < weapons.size(); i++) {
+            k.recordNotSolution(weapons.get(i).getId());
+        }
+        assertEquals(weapons.get(0).getMask(), k.getSolutionCandidates(CardType.WEAPON));
+        assertEquals(weapons.get(0).getMask(), k.getSolutionMask());
+    }
+
+    // Computers in a headless game accuse only when certain, so nobody is eliminated
+    @Test
+    public void testComputersAccuseCorrectly() {
+        board.setSeed(7L);
+        board.initialize();
+        Player winner = board.getEngine().playUntilGameOver(1000);
+        assertNotNull(winner);
+        for (Player player : board.getPlayers()) {
+            assertFalse(player.isEliminated());
+        }
+        ComputerPlayer cpu = (ComputerPlayer) winner;
+        assertTrue(cpu.getKnowledge().isSolved());
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Class: MovementRulesTest
+ * Unit tests for configurable dice and the bounded target search, including
+ * a cell-by-cell comparison against the exact search on the game layout.
+ * 
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class MovementRulesTest {
+    private static Board board;
+
+    @BeforeAll
+    public static void setUp() {
+        board = Board.getInstance();
+        board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        board.initialize();
+    }
+
+    // Every start cell and roll 1-6 gives the same targets with either search
+    @Test
+    public void testBoundedSearchMatchesExactSearch() {
+        MovementRules exact = new MovementRules(DiceModel.standard(), Integer.MAX_VALUE);
+        MovementRules bounded = new MovementRules(DiceModel.standard(), 0);
+        try {
+            for (int row = 0; row < board.getNumRows(); row++) {
+                for (int col = 0; col < board.getNumColumns(); col++) {
+                    for (int roll = 1; roll <= 6; roll++) {
+                        board.setMovementRules(exact);
+                        Set<BoardCell> expected = board.calcTargets(row, col, roll);
+                        board.setMovementRules(bounded);
+                        Set<BoardCell> actual = board.calcTargets(row, col, roll);
+                        assertEquals(expected, actual, "Targets differ at (" + row + "," + col + ") roll " + roll);
+                    }
+                }
+            }
+        } finally {
+            board.setMovementRules(MovementRules.standard());
+        }
+    }
+
+    // Long rolls use the bounded search and still end on walkways or room centers
+    @Test
+    public void testLongRollTargets() {
+        board.setMovementRules(new MovementRules(new DiceModel(2, 6)));
+        try {
+            Set<BoardCell> targets = board.calcTargets(13, 13, 20);
+            assertFalse(targets.isEmpty());
+            for (BoardCell cell : targets) {
+                assertTrue(cell.getInitial() == 'W' || cell.isRoomCenter());
+                assertNotSame(board.getCell(13, 13), cell);
+            }
+        } finally {
+            board.setMovementRules(MovementRules.standard());
+        }
+    }
+
+    @Test
+    public void testDiceRange() {
+        DiceModel twoDice = new DiceModel(2, 6);
+        assertEquals(12, twoDice.getMaxRoll());
+        Random rand = new Random(42);
+        boolean sawTwo = false, sawTwelve = false;
+        for (int i = 0; i < 2000; i++) {
+            int roll = twoDice.roll(rand);
+            assertTrue(roll >= 2 && roll <= 12);
+            sawTwo |= roll == 2;
+            sawTwelve |= roll == 12;
+        }
+        assertTrue(sawTwo && sawTwelve);
+        assertThrows(IllegalArgumentException.class, () -> new DiceModel(0, 6));
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Class: SamplingSolverTest
+ * Unit tests for the sampler that estimates which cards are in the
+ * solution envelope from a computer player's knowledge.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class SamplingSolverTest {
+    private Board board;
+    private CardRegistry cards;
+    private KnowledgeMatrix knowledge;
+
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        board.setConfigFiles("data/ClueLayout.csv", "data/ClueSetup.txt");
+        board.setComputerOnly(true);
+        board.initialize();
+        cards = board.getCardRegistry();
+        knowledge = new KnowledgeMatrix(cards, new int[] { 3, 3, 3, 3, 3, 3 });
+        knowledge.recordHand(0, card("Luke Skywalker").getMask() | card("Lightsaber").getMask()
+                | card("Trash Compactor").getMask());
+    }
+
+    private Card card(String name) {
+        for (CardType type : CardType.values()) {
+            Card card = cards.find(name, type);
+            if (card != null) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    private SamplingSolver newSolver(long seed) {
+        SamplingSolver solver = new SamplingSolver(knowledge, new SplittableRandom(seed));
+        solver.setWorkers(2);
+        solver.refill();
+        return solver;
+    }
+
+    // Each type has exactly one envelope card, and known cards never are
+    @Test
+    public void testProbabilitiesSumToOne() {
+        SamplingSolver solver = newSolver(1L);
+        assertEquals(SamplingSolver.DEFAULT_POOL_SIZE, solver.getSampleCount());
+        for (CardType type : CardType.values()) {
+            double sum = 0.0;
+            for (Card c : cards.getCards(type)) {
+                sum += solver.getProbability(c.getId());
+            }
+            assertEquals(1.0, sum, 1e-9);
+        }
+        assertEquals(0.0, solver.getProbability(card("Lightsaber").getId()));
+    }
+
+    // A player who passed on a suggestion never holds its cards in any sample
+    @Test
+    public void testUpdateDropsContradictedSamples() {
+        SamplingSolver solver = newSolver(2L);
+        long suggestion = card("Yoda").getMask() | card("Sith Temple").getMask() | card("Blaster").getMask();
+        knowledge.recordSuggestion(0, suggestion, -1, -1);
+        solver.update();
+        assertTrue(solver.getSampleCount() < SamplingSolver.DEFAULT_POOL_SIZE);
+        solver.refill();
+        assertEquals(SamplingSolver.DEFAULT_POOL_SIZE, solver.getSampleCount());
+        assertEquals(suggestion, solver.getMostLikelySolution());
+        assertEquals(1.0, solver.getProbability(suggestion));
+    }
+
+    // Without a time budget the same seed gives the same estimates
+    @Test
+    public void testSeededSolverRepeats() {
+        SamplingSolver first = newSolver(3L);
+        SamplingSolver second = newSolver(3L);
+        for (Card c : cards.getCards()) {
+            assertEquals(first.getProbability(c.getId()), second.getProbability(c.getId()));
+        }
+        assertEquals(first.getMostLikelySolution(), second.getMostLikelySolution());
+    }
+
+    // The pool is the same however many threads draw it
+    @Test
+    public void testSamplesIgnoreWorkerCount() {
+        SamplingSolver alone = new SamplingSolver(knowledge, new SplittableRandom(5L));
+        alone.setWorkers(1);
+        alone.refill();
+        SamplingSolver shared = new SamplingSolver(knowledge, new SplittableRandom(5L));
+        shared.setWorkers(4);
+        shared.refill();
+        assertEquals(alone.getSampleCount(), shared.getSampleCount());
+        for (int i = 0; i < alone.getSampleCount(); i++) {
+            assertArrayEquals(alone.getSamples().get(i), shared.getSamples().get(i));
+        }
+    }
+
+    // Interrupting the caller stops a refill with no time budget; the next one fills the pool
+    @Test
+    public void testInterruptStopsRefill() {
+        SamplingSolver solver = new SamplingSolver(knowledge, new SplittableRandom(4L));
+        solver.setWorkers(2);
+        Thread.currentThread().interrupt();
+        try {
+            solver.refill();
+        } finally {
+            Thread.interrupted();
+        }
+        assertTrue(solver.getSampleCount() < SamplingSolver.DEFAULT_POOL_SIZE);
+        solver.refill();
+        assertEquals(SamplingSolver.DEFAULT_POOL_SIZE, solver.getSampleCount());
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Class: SuggestionPlannerTest
+ * Unit tests for scoring computer suggestions by expected information,
+ * on hand-made deals over a tiny deck.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class SuggestionPlannerTest {
+    private Card p0, p1, r0, r1, w0, w1;
+    private KnowledgeMatrix knowledge;
+
+    // Seat 0 (us) holds two cards, seat 1 holds one, three are in the envelope
+    @BeforeEach
+    public void setUp() {
+        CardRegistry cards = new CardRegistry();
+        p0 = cards.register("Yoda", CardType.PERSON);
+        p1 = cards.register("Han Solo", CardType.PERSON);
+        r0 = cards.register("Sith Temple", CardType.ROOM);
+        r1 = cards.register("Cantina", CardType.ROOM);
+        w0 = cards.register("Blaster", CardType.WEAPON);
+        w1 = cards.register("Lightsaber", CardType.WEAPON);
+        knowledge = new KnowledgeMatrix(cards, new int[] { 2, 1 });
+        knowledge.recordHand(0, r1.getMask() | w1.getMask());
+    }
+
+    private long[] deal(Card held, Card... envelope) {
+        long env = 0L;
+        for (Card c : envelope) {
+            env |= c.getMask();
+        }
+        return new long[] { r1.getMask() | w1.getMask(), held.getMask(), env };
+    }
+
+    // Whether seat 1 shows Yoda tells us which person is in the envelope: one bit
+    @Test
+    public void testResponseThatSettlesTheEnvelope() {
+        List<long[]> deals = List.of(deal(p1, p0, r0, w0), deal(p0, p1, r0, w0));
+        SuggestionPlanner planner = new SuggestionPlanner(knowledge, 0, deals);
+        assertEquals(1.0, planner.expectedGain(p0.getMask() | r0.getMask() | w0.getMask()), 1e-9);
+        // Naming our own cards hides nothing: the person still decides the response
+        assertEquals(1.0, planner.expectedGain(p1.getMask() | r1.getMask() | w1.getMask()), 1e-9);
+    }
+
+    // Deals that already agree on the envelope leave nothing to learn about it
+    @Test
+    public void testNothingToLearn() {
+        List<long[]> deals = List.of(deal(p1, p0, r0, w0), deal(p1, p0, r0, w0));
+        SuggestionPlanner planner = new SuggestionPlanner(knowledge, 0, deals);
+        assertEquals(0.0, planner.expectedGain(p0.getMask() | r0.getMask() | w0.getMask()), 1e-9);
+        assertEquals(0L, planner.bestSuggestion(r0.getMask(), new SplittableRandom(1)));
+    }
+
+    // Only suggestions naming a person can split these deals, and any such pair will do
+    @Test
+    public void testBestSuggestionUsesTheRoom() {
+        List<long[]> deals = List.of(deal(p1, p0, r0, w0), deal(p0, p1, r0, w0));
+        SuggestionPlanner planner = new SuggestionPlanner(knowledge, 0, deals);
+        long best = planner.bestSuggestion(r1.getMask(), new SplittableRandom(2));
+        assertEquals(r1.getMask(), best & (r0.getMask() | r1.getMask()));
+        assertEquals(3, Long.bitCount(best));
+        assertEquals(1.0, planner.expectedGain(best), 1e-9);
+    }
+}
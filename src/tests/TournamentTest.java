@@ -0,0 +1,71 @@
+/**
+ * Class: TournamentTest
+ * Runs a small computer-only tournament and checks that the merged
+ * totals from the parallel workers add up.
+ *
+ * Authors: Shaurya Saxena, Logan Matthews
+ * Date: October 18, 2026
+ */
+
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import clueGame.*;
+
+public class TournamentTest {
+
+    @Test
+    public void testTournamentTotals() {
+        Tournament tournament = new Tournament("data/ClueLayout.csv", "data/ClueSetup.txt");
+        tournament.setMaxTurns(2000);
+        tournament.setParallelism(2);
+        TournamentResult result = tournament.run(20);
+
+        assertEquals(20, result.getGames());
+        assertEquals(6, result.getSeatCount());
+        assertEquals("Luke Skywalker", result.getSeatName(0));
+
+        int wins = 0;
+        for (int seat = 0; seat < result.getSeatCount(); seat++) {
+            wins += result.getWins(seat);
+        }
+        assertEquals(result.getSolvedGames(), wins);
+        assertTrue(result.getSolvedGames() > 0);
+        assertTrue(result.getAverageTurns() > 0);
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    // The same seed replays the same games, whichever worker plays them
+    @Test
+    public void testSeededTournamentReplays() {
+        Tournament tournament = new Tournament("data/ClueLayout.csv", "data/ClueSetup.txt");
+        tournament.setSeed(12345L);
+        tournament.setParallelism(4);
+        TournamentResult first = tournament.run(12);
+        tournament.setParallelism(1);
+        TournamentResult second = tournament.run(12);
+
+        assertEquals(first.getSolvedGames(), second.getSolvedGames());
+        assertEquals(first.getAverageTurns(), second.getAverageTurns());
+        for (int seat = 0; seat < first.getSeatCount(); seat++) {
+            assertEquals(first.getWins(seat), second.getWins(seat));
+        }
+
+        long gameSeed = tournament.gameSeeds(12)[5];
+        Board game = tournament.playGame(gameSeed);
+        Board replay = tournament.playGame(gameSeed);
+        assertEquals(game.getSolution(), replay.getSolution());
+        assertEquals(game.getEngine().getTurnCount(), replay.getEngine().getTurnCount());
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            Player player = game.getPlayers().get(i);
+            Player replayed = replay.getPlayers().get(i);
+            assertEquals(player.getHand(), replayed.getHand());
+            assertEquals(player.getRow(), replayed.getRow());
+            assertEquals(player.getColumn(), replayed.getColumn());
+            assertEquals(0L, ((ComputerPlayer) player).getSolver().getTimeBudgetNanos());
+        }
+    }
+}